@@ -0,0 +1,140 @@
+package com.github.paulosalonso.algorithms.graph;
+
+import com.github.paulosalonso.algorithms.graph.Graph.Edge;
+import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+public class CompactGraph {
+
+    private final List<Vertex> vertices;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final int minWeight;
+    private final int maxWeight;
+    private CompactGraph reverse;
+
+    static CompactGraph of(Graph graph) {
+        final var vertices = graph.getVertices();
+        final var n = vertices.size();
+        final var offsets = new int[n + 1];
+
+        for (var u = 0; u < n; u++) {
+            offsets[u + 1] = offsets[u] + graph.getForwardEdges(vertices.get(u)).size();
+        }
+
+        final var targets = new int[offsets[n]];
+        final var weights = new int[offsets[n]];
+
+        for (var u = 0; u < n; u++) {
+            var edge = offsets[u];
+
+            for (final Edge forwardEdge : graph.getForwardEdges(vertices.get(u))) {
+                targets[edge] = graph.indexOf(forwardEdge.getTo());
+                weights[edge] = forwardEdge.getDistance();
+                edge++;
+            }
+        }
+
+        return of(vertices, offsets, targets, weights);
+    }
+
+    private static CompactGraph of(List<Vertex> vertices, int[] offsets, int[] targets, int[] weights) {
+        var minWeight = weights.length == 0 ? 0 : Integer.MAX_VALUE;
+        var maxWeight = weights.length == 0 ? 0 : Integer.MIN_VALUE;
+
+        for (final var weight : weights) {
+            minWeight = Math.min(minWeight, weight);
+            maxWeight = Math.max(maxWeight, weight);
+        }
+
+        return new CompactGraph(vertices, offsets, targets, weights, minWeight, maxWeight);
+    }
+
+    public CompactGraph withWeights(int[] weights) {
+        if (weights == null || weights.length != targets.length) {
+            throw new IllegalArgumentException("Weights must have one entry per edge");
+        }
+
+        return of(vertices, offsets, targets, weights);
+    }
+
+    public CompactGraph reverse() {
+        if (reverse == null) {
+            final var n = getVertexCount();
+            final var reverseOffsets = new int[n + 1];
+
+            for (final var target : targets) {
+                reverseOffsets[target + 1]++;
+            }
+
+            for (var v = 0; v < n; v++) {
+                reverseOffsets[v + 1] += reverseOffsets[v];
+            }
+
+            final var cursors = Arrays.copyOf(reverseOffsets, n);
+            final var reverseTargets = new int[targets.length];
+            final var reverseWeights = new int[weights.length];
+
+            for (var u = 0; u < n; u++) {
+                for (var edge = offsets[u]; edge < offsets[u + 1]; edge++) {
+                    final var position = cursors[targets[edge]]++;
+                    reverseTargets[position] = u;
+                    reverseWeights[position] = weights[edge];
+                }
+            }
+
+            final var reversed = new CompactGraph(vertices, reverseOffsets, reverseTargets, reverseWeights, minWeight, maxWeight);
+            reversed.reverse = this;
+            reverse = reversed;
+        }
+
+        return reverse;
+    }
+
+    public List<Vertex> getVertices() {
+        return vertices;
+    }
+
+    public Vertex getVertex(int index) {
+        return vertices.get(index);
+    }
+
+    public int getVertexCount() {
+        return offsets.length - 1;
+    }
+
+    public int getEdgeCount() {
+        return targets.length;
+    }
+
+    public int getEdgeBegin(int vertex) {
+        return offsets[vertex];
+    }
+
+    public int getEdgeEnd(int vertex) {
+        return offsets[vertex + 1];
+    }
+
+    public int getTarget(int edge) {
+        return targets[edge];
+    }
+
+    public int getWeight(int edge) {
+        return weights[edge];
+    }
+
+    public int getMinWeight() {
+        return minWeight;
+    }
+
+    public int getMaxWeight() {
+        return maxWeight;
+    }
+}
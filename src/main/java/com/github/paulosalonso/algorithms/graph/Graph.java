@@ -2,20 +2,37 @@ package com.github.paulosalonso.algorithms.graph;
 
 import lombok.*;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
 
 import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toMap;
+import static lombok.AccessLevel.NONE;
 import static lombok.AccessLevel.PRIVATE;
 
 @Getter
 public class Graph {
 
     private final List<Vertex> vertices;
-    private final Map<Vertex, List<Edge>> forwardEdges;
+
+    @Getter(NONE)
+    private final Map<Vertex, Integer> indices;
+
+    @Getter(NONE)
+    private Map<Vertex, List<Edge>> forwardEdges;
+
+    @Getter(NONE)
+    private CompactGraph compactGraph;
+
+    @Getter(NONE)
+    private double[] coordinates;
 
     private Graph(List<Vertex> vertices) {
         if (vertices == null) {
@@ -23,6 +40,14 @@ public class Graph {
         }
 
         this.vertices = unmodifiableList(vertices);
+        this.indices = new HashMap<>(vertices.size() * 4 / 3 + 1);
+
+        for (var i = 0; i < vertices.size(); i++) {
+            if (indices.putIfAbsent(vertices.get(i), i) != null) {
+                throw new IllegalArgumentException("Vertices must be unique");
+            }
+        }
+
         this.forwardEdges = vertices.stream().collect(toMap(vertex -> vertex, vertex -> new ArrayList<>()));
     }
 
@@ -32,18 +57,21 @@ public class Graph {
 
     public Graph joinDirected(Vertex from, Vertex to) {
         validateVertices(from, to);
+        startMutation();
         forwardEdges.get(from).add(Edge.of(from, to));
         return this;
     }
 
     public Graph joinDirected(Vertex from, Vertex to, int distance) {
         validateVertices(from, to);
+        startMutation();
         forwardEdges.get(from).add(Edge.of(from, to, distance));
         return this;
     }
 
     public Graph joinUndirected(Vertex a, Vertex b) {
         validateVertices(a, b);
+        startMutation();
         forwardEdges.get(a).add(Edge.of(a, b));
         forwardEdges.get(b).add(Edge.of(b, a));
         return this;
@@ -51,12 +79,77 @@ public class Graph {
 
     public Graph joinUndirected(Vertex a, Vertex b, int distance) {
         validateVertices(a, b);
+        startMutation();
         forwardEdges.get(a).add(Edge.of(a, b, distance));
         forwardEdges.get(b).add(Edge.of(b, a, distance));
         return this;
     }
 
+    public Graph place(Vertex vertex, double x, double y) {
+        final var index = indexOf(vertex);
+
+        if (index < 0) {
+            throw new IllegalArgumentException("Vertex must belongs to graph");
+        }
+
+        if (coordinates == null) {
+            coordinates = new double[2 * vertices.size()];
+            Arrays.fill(coordinates, Double.NaN);
+        }
+
+        coordinates[2 * index] = x;
+        coordinates[2 * index + 1] = y;
+        return this;
+    }
+
+    public double euclideanDistance(Vertex a, Vertex b) {
+        final var aIndex = indexOf(a);
+        final var bIndex = indexOf(b);
+
+        if (aIndex < 0 || bIndex < 0) {
+            throw new IllegalArgumentException("Vertices must belongs to graph");
+        }
+
+        if (coordinates == null || Double.isNaN(coordinates[2 * aIndex]) || Double.isNaN(coordinates[2 * bIndex])) {
+            throw new IllegalStateException("Vertices must be placed");
+        }
+
+        return Math.hypot(coordinates[2 * aIndex] - coordinates[2 * bIndex],
+                coordinates[2 * aIndex + 1] - coordinates[2 * bIndex + 1]);
+    }
+
+    public Graph freeze() {
+        compactGraph = toCompactGraph();
+        forwardEdges = null;
+        return this;
+    }
+
+    public boolean isFrozen() {
+        return forwardEdges == null;
+    }
+
+    public CompactGraph toCompactGraph() {
+        if (compactGraph == null) {
+            compactGraph = CompactGraph.of(this);
+        }
+
+        return compactGraph;
+    }
+
     public Optional<Integer> getDistance(Vertex from, Vertex to) {
+        if (isFrozen()) {
+            final var u = indexOf(from);
+            final var v = indexOf(to);
+
+            for (var edge = compactGraph.getEdgeBegin(u); edge < compactGraph.getEdgeEnd(u); edge++) {
+                if (compactGraph.getTarget(edge) == v) {
+                    return Optional.of(compactGraph.getWeight(edge));
+                }
+            }
+
+            return Optional.empty();
+        }
+
         final var edges = forwardEdges.get(from);
 
         return edges.stream()
@@ -66,15 +159,23 @@ public class Graph {
     }
 
     public List<Vertex> getNeighbors(Vertex vertex) {
+        if (isFrozen()) {
+            return new NeighborView(compactGraph, indexOf(vertex));
+        }
+
         return forwardEdges.get(vertex).stream().map(Edge::getTo).toList();
     }
 
     public List<Edge> getForwardEdges(Vertex vertex) {
+        if (isFrozen()) {
+            return new EdgeView(compactGraph, indexOf(vertex));
+        }
+
         return forwardEdges.get(vertex);
     }
 
     public int indexOf(Vertex vertex) {
-        return vertices.indexOf(vertex);
+        return indices.getOrDefault(vertex, -1);
     }
 
     private void validateVertices(Vertex a, Vertex b) {
@@ -82,11 +183,70 @@ public class Graph {
             throw new IllegalArgumentException("Vertices must be non null");
         }
 
-        if (!vertices.contains(a) || !vertices.contains(b)) {
+        if (!indices.containsKey(a) || !indices.containsKey(b)) {
             throw new IllegalArgumentException("Vertices must belongs to graph");
         }
     }
 
+    private void startMutation() {
+        if (isFrozen()) {
+            throw new IllegalStateException("Graph is frozen");
+        }
+
+        compactGraph = null;
+    }
+
+    private static class NeighborView extends AbstractList<Vertex> implements RandomAccess {
+
+        private final CompactGraph graph;
+        private final int edgeBegin;
+        private final int size;
+
+        private NeighborView(CompactGraph graph, int vertex) {
+            this.graph = graph;
+            this.edgeBegin = graph.getEdgeBegin(vertex);
+            this.size = graph.getEdgeEnd(vertex) - edgeBegin;
+        }
+
+        @Override
+        public Vertex get(int index) {
+            Objects.checkIndex(index, size);
+            return graph.getVertex(graph.getTarget(edgeBegin + index));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private static class EdgeView extends AbstractList<Edge> implements RandomAccess {
+
+        private final CompactGraph graph;
+        private final Vertex from;
+        private final int edgeBegin;
+        private final int size;
+
+        private EdgeView(CompactGraph graph, int vertex) {
+            this.graph = graph;
+            this.from = graph.getVertex(vertex);
+            this.edgeBegin = graph.getEdgeBegin(vertex);
+            this.size = graph.getEdgeEnd(vertex) - edgeBegin;
+        }
+
+        @Override
+        public Edge get(int index) {
+            Objects.checkIndex(index, size);
+            final var edge = edgeBegin + index;
+            return new Edge(from, graph.getVertex(graph.getTarget(edge)), graph.getWeight(edge));
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
     @RequiredArgsConstructor(access = PRIVATE)
     @Getter
     @ToString
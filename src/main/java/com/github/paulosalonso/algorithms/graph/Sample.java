@@ -3,6 +3,7 @@ package com.github.paulosalonso.algorithms.graph;
 import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
 import com.github.paulosalonso.algorithms.graph.searcher.*;
 
+import java.util.Arrays;
 import java.util.List;
 
 public class Sample {
@@ -45,7 +46,8 @@ public class Sample {
                 .joinUndirected(v9, v15, 2)
                 .joinUndirected(v0, v8, 23)
                 .joinUndirected(v8, v7, 17)
-                .joinUndirected(v8, v14, 11);
+                .joinUndirected(v8, v14, 11)
+                .freeze();
 
         var start = System.currentTimeMillis();
         var depthFirstSearcher = DepthFirstSearcher.of(graph);
@@ -65,6 +67,29 @@ public class Sample {
         duration = System.currentTimeMillis() - start;
         System.out.println("DijkstraSearcher:           " + dijkstraResult.findPathTo(v5) + " | duration: " + duration + "ms");
 
+        start = System.currentTimeMillis();
+        var bidirectionalDijkstraResult = dijkstraSearcher.search(v0, v5);
+        duration = System.currentTimeMillis() - start;
+        System.out.println("DijkstraSearcher (v0, v5):  " + bidirectionalDijkstraResult.orElseThrow() + " | duration: " + duration + "ms");
+
+        start = System.currentTimeMillis();
+        var deltaSteppingSearcher = DeltaSteppingSearcher.of(graph);
+        var deltaSteppingResult = deltaSteppingSearcher.search(v0);
+        duration = System.currentTimeMillis() - start;
+        System.out.println("DeltaSteppingSearcher:      " + deltaSteppingResult.findPathTo(v5) + " | duration: " + duration + "ms");
+
+        start = System.currentTimeMillis();
+        var landmarkSearcher = AStarSearcher.of(graph, LandmarkHeuristic.of(graph, 4));
+        var landmarkResult = landmarkSearcher.search(v0, v5);
+        duration = System.currentTimeMillis() - start;
+        System.out.println("AStarSearcher (landmarks):  " + landmarkResult.orElseThrow() + " | duration: " + duration + "ms");
+
+        start = System.currentTimeMillis();
+        var contractionHierarchySearcher = ContractionHierarchySearcher.of(graph);
+        var contractionHierarchyResult = contractionHierarchySearcher.search(v0, v5);
+        duration = System.currentTimeMillis() - start;
+        System.out.println("ContractionHierarchySearcher: " + contractionHierarchyResult.orElseThrow() + " | duration: " + duration + "ms");
+
         start = System.currentTimeMillis();
         var denseGraphDijkstraSearcher = DenseGraphDijkstraSearcher.of(graph);
         var denseGraphDijkstraResult = denseGraphDijkstraSearcher.search(v0);
@@ -81,5 +106,16 @@ public class Sample {
         var floydWarshallSearcher = FloydWarshallSearcher.of(graph);
         duration = System.currentTimeMillis() - start;
         System.out.println("FloydWarshallSearcher:      " + floydWarshallSearcher.getShortestPath(v0, v15) + " | duration: " + duration + "ms");
+
+        start = System.currentTimeMillis();
+        var johnsonSearcher = JohnsonSearcher.of(graph);
+        duration = System.currentTimeMillis() - start;
+        System.out.println("JohnsonSearcher:            " + johnsonSearcher.getShortestPath(v0, v15) + " | duration: " + duration + "ms");
+
+        start = System.currentTimeMillis();
+        var connectedComponentsSearcher = ConnectedComponentsSearcher.of(graph);
+        var stronglyConnectedComponents = connectedComponentsSearcher.computeStronglyConnectedComponents();
+        duration = System.currentTimeMillis() - start;
+        System.out.println("ConnectedComponentsSearcher: " + Arrays.toString(stronglyConnectedComponents) + " | duration: " + duration + "ms");
     }
 }
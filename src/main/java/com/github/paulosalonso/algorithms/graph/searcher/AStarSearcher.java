@@ -0,0 +1,136 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import com.github.paulosalonso.algorithms.graph.Graph;
+import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
+import com.github.paulosalonso.algorithms.graph.Path;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+public class AStarSearcher {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final Graph graph;
+    private final Heuristic heuristic;
+
+    public static AStarSearcher of(Graph graph, Heuristic heuristic) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph must be not null");
+        }
+
+        if (heuristic == null) {
+            throw new IllegalArgumentException("Heuristic must be not null");
+        }
+
+        return new AStarSearcher(graph, heuristic);
+    }
+
+    public Optional<Path> search(Vertex source, Vertex target) {
+        final var sourceIndex = graph.indexOf(source);
+        final var targetIndex = graph.indexOf(target);
+
+        if (sourceIndex < 0 || targetIndex < 0) {
+            throw new IllegalArgumentException("Source and target must belongs to graph");
+        }
+
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+        final var distances = new int[n];
+        final var estimates = new int[n];
+        final var predecessors = new int[n];
+        final var queue = IndexedMinHeap.of(n);
+
+        Arrays.fill(distances, INFINITY);
+        Arrays.fill(estimates, -1);
+        Arrays.fill(predecessors, -1);
+
+        distances[sourceIndex] = 0;
+        queue.offer(sourceIndex, estimate(sourceIndex, target, estimates));
+
+        while (!queue.isEmpty()) {
+            final var u = queue.poll();
+
+            if (u == targetIndex) {
+                return Optional.of(buildPath(predecessors, targetIndex, distances[targetIndex]));
+            }
+
+            final var distance = distances[u];
+
+            for (var edge = compactGraph.getEdgeBegin(u); edge < compactGraph.getEdgeEnd(u); edge++) {
+                final var v = compactGraph.getTarget(edge);
+                final var newDistance = (long) distance + compactGraph.getWeight(edge);
+
+                if (newDistance < distances[v]) {
+                    distances[v] = (int) newDistance;
+                    predecessors[v] = u;
+                    queue.offer(v, (int) Math.min(INFINITY - 1L, newDistance + estimate(v, target, estimates)));
+                }
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    private int estimate(int vertex, Vertex target, int[] estimates) {
+        if (estimates[vertex] < 0) {
+            estimates[vertex] = Math.max(0, heuristic.estimate(graph.getVertices().get(vertex), target));
+        }
+
+        return estimates[vertex];
+    }
+
+    private Path buildPath(int[] predecessors, int target, int distance) {
+        final var vertices = new ArrayList<Vertex>();
+
+        for (var vertex = target; vertex >= 0; vertex = predecessors[vertex]) {
+            vertices.add(graph.getVertices().get(vertex));
+        }
+
+        Collections.reverse(vertices);
+
+        return Path.of(vertices, distance);
+    }
+
+    public static void main(String[] args) {
+        var v0 = Vertex.of(0);
+        var v1 = Vertex.of(1);
+        var v2 = Vertex.of(2);
+        var v3 = Vertex.of(3);
+        var v4 = Vertex.of(4);
+        var v5 = Vertex.of(5);
+
+        var vertices = List.of(v0, v1, v2, v3, v4, v5);
+
+        var graph = Graph.of(vertices);
+
+        graph.place(v0, 0, 0)
+                .place(v1, 3, 4)
+                .place(v2, 6, 0)
+                .place(v3, 9, 4)
+                .place(v4, 3, -4)
+                .place(v5, 12, 0);
+
+        graph.joinUndirected(v0, v1, 5)
+                .joinUndirected(v1, v2, 5)
+                .joinUndirected(v2, v3, 5)
+                .joinUndirected(v3, v5, 5)
+                .joinUndirected(v0, v4, 5)
+                .joinUndirected(v4, v2, 6)
+                .joinUndirected(v2, v5, 7);
+
+        final var start = System.currentTimeMillis();
+        final var path = AStarSearcher.of(graph, Heuristic.euclidean(graph)).search(v0, v5);
+        final var duration = System.currentTimeMillis() - start;
+
+        System.out.println("AStarSearcher duration: " + duration);
+        System.out.println(path.orElseThrow());
+    }
+}
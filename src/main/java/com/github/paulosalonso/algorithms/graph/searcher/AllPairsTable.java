@@ -0,0 +1,57 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import com.github.paulosalonso.algorithms.graph.Graph;
+import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
+import com.github.paulosalonso.algorithms.graph.Path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Optional;
+
+final class AllPairsTable {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private AllPairsTable() {}
+
+    static Optional<Integer> getDistance(Graph graph, int[] dist, Vertex from, Vertex to) {
+        final var n = graph.getVertices().size();
+        final var distance = dist[indexOf(graph, from) * n + indexOf(graph, to)];
+        return distance == INFINITY ? Optional.empty() : Optional.of(distance);
+    }
+
+    static Path getShortestPath(Graph graph, int[] dist, int[] pred, Vertex from, Vertex to) {
+        final var n = graph.getVertices().size();
+        final var fromIndex = indexOf(graph, from);
+        final var toIndex = indexOf(graph, to);
+        final var fromRow = fromIndex * n;
+
+        if (dist[fromRow + toIndex] == INFINITY) {
+            throw new IllegalArgumentException("There is no path between vertices");
+        }
+
+        final var vertices = new ArrayList<Vertex>();
+        vertices.add(graph.getVertices().get(toIndex));
+
+        var predecessorIndex = toIndex;
+
+        while (predecessorIndex != fromIndex) {
+            predecessorIndex = pred[fromRow + predecessorIndex];
+            vertices.add(graph.getVertices().get(predecessorIndex));
+        }
+
+        Collections.reverse(vertices);
+
+        return Path.of(vertices, dist[fromRow + toIndex]);
+    }
+
+    private static int indexOf(Graph graph, Vertex vertex) {
+        final var index = graph.indexOf(vertex);
+
+        if (index < 0) {
+            throw new IllegalArgumentException("Vertex must belongs to graph");
+        }
+
+        return index;
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import com.github.paulosalonso.algorithms.graph.CompactGraph;
+import com.github.paulosalonso.algorithms.graph.Graph;
+import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+public class BatchDijkstraSearcher {
+
+    private final Graph graph;
+    private final ForkJoinPool pool;
+
+    public static BatchDijkstraSearcher of(Graph graph) {
+        return of(graph, ForkJoinPool.commonPool());
+    }
+
+    public static BatchDijkstraSearcher of(Graph graph, ForkJoinPool pool) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph must be not null");
+        }
+
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must be not null");
+        }
+
+        return new BatchDijkstraSearcher(graph, pool);
+    }
+
+    public void search(List<Vertex> sources, BiConsumer<Vertex, Predecessors> consumer) {
+        if (sources == null || consumer == null) {
+            throw new IllegalArgumentException("Sources and consumer must be not null");
+        }
+
+        final var sourceIndices = new int[sources.size()];
+
+        for (var i = 0; i < sourceIndices.length; i++) {
+            sourceIndices[i] = graph.indexOf(sources.get(i));
+
+            if (sourceIndices[i] < 0) {
+                throw new IllegalArgumentException("Sources must belongs to graph");
+            }
+        }
+
+        final var compactGraph = graph.toCompactGraph();
+        final var workers = Math.min(sourceIndices.length, pool.getParallelism());
+        final var next = new AtomicInteger();
+        final var lock = new Object();
+
+        pool.submit(() -> IntStream.range(0, workers).parallel()
+                .forEach(worker -> searchSources(compactGraph, sources, sourceIndices, next, lock, consumer)))
+                .join();
+    }
+
+    private void searchSources(CompactGraph compactGraph, List<Vertex> sources, int[] sourceIndices,
+                               AtomicInteger next, Object lock, BiConsumer<Vertex, Predecessors> consumer) {
+        final var n = compactGraph.getVertexCount();
+        final var distances = new int[n];
+        final var predecessors = new int[n];
+        final var queue = DijkstraSearcher.queueFor(compactGraph);
+
+        for (var i = next.getAndIncrement(); i < sourceIndices.length; i = next.getAndIncrement()) {
+            DijkstraSearcher.search(compactGraph, sourceIndices[i], distances, predecessors, queue);
+
+            final var result = Predecessors.of(graph, predecessors.clone(), distances.clone());
+
+            synchronized (lock) {
+                consumer.accept(sources.get(i), result);
+            }
+        }
+    }
+
+    public static void main(String[] args) {
+        var v0 = Vertex.of(0);
+        var v1 = Vertex.of(1);
+        var v2 = Vertex.of(2);
+        var v3 = Vertex.of(3);
+        var v4 = Vertex.of(4);
+        var v5 = Vertex.of(5);
+
+        var vertices = List.of(v0, v1, v2, v3, v4, v5);
+
+        var graph = Graph.of(vertices);
+
+        graph.joinDirected(v0, v1, 6);
+        graph.joinDirected(v0, v2, 8);
+        graph.joinDirected(v0, v3, 18);
+        graph.joinDirected(v1, v4, 11);
+        graph.joinDirected(v2, v3, 9);
+        graph.joinDirected(v4, v5, 3);
+        graph.joinDirected(v5, v2, 7);
+        graph.joinDirected(v5, v3, 4);
+
+        final var start = System.currentTimeMillis();
+
+        BatchDijkstraSearcher.of(graph).search(vertices, (source, predecessors) ->
+                System.out.println(source + ": " + predecessors.findPathTo(v3)));
+
+        final var duration = System.currentTimeMillis() - start;
+
+        System.out.println("BatchDijkstraSearcher duration: " + duration);
+    }
+}
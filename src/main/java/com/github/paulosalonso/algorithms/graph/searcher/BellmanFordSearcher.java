@@ -1,67 +1,250 @@
 package com.github.paulosalonso.algorithms.graph.searcher;
 
+import com.github.paulosalonso.algorithms.graph.CompactGraph;
 import com.github.paulosalonso.algorithms.graph.Graph;
 import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
 import lombok.RequiredArgsConstructor;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 import static lombok.AccessLevel.PRIVATE;
 
 @RequiredArgsConstructor(access = PRIVATE)
 public class BellmanFordSearcher {
 
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int CHUNKS_PER_THREAD = 4;
+
     private final Graph graph;
+    private final ForkJoinPool pool;
 
     public static BellmanFordSearcher of(Graph graph) {
+        return of(graph, ForkJoinPool.commonPool());
+    }
+
+    public static BellmanFordSearcher of(Graph graph, ForkJoinPool pool) {
         if (graph == null) {
             throw new IllegalArgumentException("Graph must be not null");
         }
 
-        return new BellmanFordSearcher(graph);
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must be not null");
+        }
+
+        return new BellmanFordSearcher(graph, pool);
     }
 
     public Predecessors search(Vertex source) {
-        final var distances = new HashMap<Vertex, Integer>();
-        final var predecessors = new HashMap<Vertex, Vertex>();
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+        final var distances = new int[n];
+        final var predecessors = new int[n];
 
+        Arrays.fill(distances, INFINITY);
+        Arrays.fill(predecessors, -1);
+        distances[sourceIndexOf(source)] = 0;
 
-        for (final var vertex : graph.getVertices()) {
-            distances.put(vertex, Integer.MAX_VALUE);
-            predecessors.put(vertex, null);
-        }
+        relaxInRounds(compactGraph, distances, predecessors);
+
+        return Predecessors.of(graph, predecessors, distances);
+    }
+
+    public Predecessors searchWithQueue(Vertex source) {
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+        final var distances = new int[n];
+        final var predecessors = new int[n];
+        final var hops = new int[n];
+        final var queue = new int[n];
+        final var queued = new boolean[n];
+        final var sourceIndex = sourceIndexOf(source);
 
-        distances.put(source, 0);
+        Arrays.fill(distances, INFINITY);
+        Arrays.fill(predecessors, -1);
+        distances[sourceIndex] = 0;
 
-        for (var vertex : graph.getVertices()) {
-            var leaveEarly = true;
-            final var neighborsEdges = graph.getForwardEdges(vertex);
+        var head = 0;
+        var size = 1;
+        queue[0] = sourceIndex;
+        queued[sourceIndex] = true;
 
-            for (var neighborEdge : neighborsEdges) {
-                final var neighborVertex = neighborEdge.getTo();
-                final var newDistance = distances.get(vertex) + neighborEdge.getDistance();
+        while (size > 0) {
+            final var u = queue[head];
+            head = head + 1 == n ? 0 : head + 1;
+            size--;
+            queued[u] = false;
 
-                if (newDistance < distances.get(neighborVertex)) {
-                    final var vertices = graph.getVertices();
-                    final var lastVertex = vertices.get(vertices.size() - 1);
+            for (var edge = compactGraph.getEdgeBegin(u); edge < compactGraph.getEdgeEnd(u); edge++) {
+                final var v = compactGraph.getTarget(edge);
+                final var newDistance = (long) distances[u] + compactGraph.getWeight(edge);
 
-                    if (vertex.equals(lastVertex)) {
-                        throw new IllegalStateException("Graph has a negative cycle");
+                if (newDistance < distances[v]) {
+                    distances[v] = (int) newDistance;
+                    predecessors[v] = u;
+                    hops[v] = hops[u] + 1;
+
+                    if (hops[v] >= n) {
+                        return search(source);
                     }
 
-                    distances.put(neighborVertex, newDistance);
-                    predecessors.put(neighborVertex, vertex);
-                    leaveEarly = false;
+                    if (!queued[v]) {
+                        queue[(head + size++) % n] = v;
+                        queued[v] = true;
+                    }
                 }
             }
+        }
+
+        return Predecessors.of(graph, predecessors, distances);
+    }
+
+    public Predecessors searchInParallel(Vertex source) {
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+        final var distances = ConcurrentDistances.of(n);
+        final var chunks = splitByEdges(compactGraph, pool.getParallelism() * CHUNKS_PER_THREAD);
+
+        distances.set(sourceIndexOf(source), 0, -1);
+
+        for (var round = 1; ; round++) {
+            final var relaxed = pool.submit(() -> IntStream.range(0, chunks.length - 1).parallel()
+                            .map(chunk -> relaxChunk(compactGraph, distances, chunks[chunk], chunks[chunk + 1]))
+                            .sum())
+                    .join();
+
+            if (relaxed == 0) {
+                return Predecessors.of(graph, distances.getPredecessors(), distances.getDistances());
+            }
 
-            if (leaveEarly) {
-                break;
+            if (round >= n) {
+                return search(source);
             }
         }
+    }
+
+    public int[] computePotentials() {
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+        final var potentials = new int[n];
+        final var predecessors = new int[n];
+
+        Arrays.fill(predecessors, -1);
+        relaxInRounds(compactGraph, potentials, predecessors);
+
+        return potentials;
+    }
+
+    private int sourceIndexOf(Vertex source) {
+        final var sourceIndex = graph.indexOf(source);
+
+        if (sourceIndex < 0) {
+            throw new IllegalArgumentException("Source must belongs to graph");
+        }
+
+        return sourceIndex;
+    }
+
+    private static int relaxChunk(CompactGraph graph, ConcurrentDistances distances, int begin, int end) {
+        var relaxed = 0;
+
+        for (var u = begin; u < end; u++) {
+            final var distance = distances.getDistance(u);
+
+            if (distance == INFINITY) {
+                continue;
+            }
+
+            for (var edge = graph.getEdgeBegin(u); edge < graph.getEdgeEnd(u); edge++) {
+                final var newDistance = (long) distance + graph.getWeight(edge);
+
+                if (newDistance < INFINITY && distances.relax(graph.getTarget(edge), (int) newDistance, u)) {
+                    relaxed++;
+                }
+            }
+        }
+
+        return relaxed;
+    }
+
+    private static int[] splitByEdges(CompactGraph graph, int chunks) {
+        final var n = graph.getVertexCount();
+        final var edgesPerChunk = Math.max(1, graph.getEdgeCount() / Math.max(1, chunks));
+        final var bounds = new int[n + 2];
+        var count = 0;
+
+        bounds[count++] = 0;
+
+        for (var u = 0; u < n; u++) {
+            if (graph.getEdgeEnd(u) - graph.getEdgeBegin(bounds[count - 1]) >= edgesPerChunk) {
+                bounds[count++] = u + 1;
+            }
+        }
+
+        if (bounds[count - 1] != n) {
+            bounds[count++] = n;
+        }
+
+        return Arrays.copyOf(bounds, count);
+    }
+
+    private static void relaxInRounds(CompactGraph graph, int[] distances, int[] predecessors) {
+        final var n = graph.getVertexCount();
+
+        for (var round = 1; ; round++) {
+            var lastRelaxed = -1;
+
+            for (var u = 0; u < n; u++) {
+                final var distance = distances[u];
+
+                if (distance == INFINITY) {
+                    continue;
+                }
+
+                for (var edge = graph.getEdgeBegin(u); edge < graph.getEdgeEnd(u); edge++) {
+                    final var v = graph.getTarget(edge);
+                    final var newDistance = (long) distance + graph.getWeight(edge);
+
+                    if (newDistance < distances[v]) {
+                        distances[v] = (int) newDistance;
+                        predecessors[v] = u;
+                        lastRelaxed = v;
+                    }
+                }
+            }
+
+            if (lastRelaxed < 0) {
+                return;
+            }
+
+            if (round >= n) {
+                throw new NegativeCycleException(findCycle(graph, predecessors, lastRelaxed));
+            }
+        }
+    }
+
+    private static List<Vertex> findCycle(CompactGraph graph, int[] predecessors, int relaxed) {
+        var vertex = relaxed;
+
+        for (var i = 0; i < graph.getVertexCount(); i++) {
+            vertex = predecessors[vertex];
+        }
+
+        final var cycle = new ArrayList<Vertex>();
+        var current = vertex;
+
+        do {
+            cycle.add(graph.getVertex(current));
+            current = predecessors[current];
+        } while (current != vertex);
+
+        Collections.reverse(cycle);
 
-        return Predecessors.of(predecessors, distances);
+        return cycle;
     }
 
     public static void main(String[] args) {
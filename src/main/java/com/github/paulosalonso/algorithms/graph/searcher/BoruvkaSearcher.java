@@ -0,0 +1,155 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import com.github.paulosalonso.algorithms.graph.CompactGraph;
+import com.github.paulosalonso.algorithms.graph.Graph;
+import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+public class BoruvkaSearcher {
+
+    private final Graph graph;
+    private final ForkJoinPool pool;
+
+    public static BoruvkaSearcher of(Graph graph) {
+        return of(graph, ForkJoinPool.commonPool());
+    }
+
+    public static BoruvkaSearcher of(Graph graph, ForkJoinPool pool) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph must be not null");
+        }
+
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must be not null");
+        }
+
+        return new BoruvkaSearcher(graph, pool);
+    }
+
+    public Predecessors computeMinimumSpanningTree() {
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+        final var sources = SpanningForest.sourcesOf(compactGraph);
+        final var components = DisjointSet.of(n);
+        final var labels = new int[n];
+        final var cheapest = new AtomicIntegerArray(n);
+        final var treeEdges = new int[Math.max(n - 1, 0)];
+        var treeEdgeCount = 0;
+
+        for (var u = 0; u < n; u++) {
+            labels[u] = u;
+            cheapest.set(u, -1);
+        }
+
+        while (true) {
+            pool.submit(() -> IntStream.range(0, n).parallel()
+                    .forEach(u -> findCheapestEdges(compactGraph, sources, labels, cheapest, u)))
+                    .join();
+
+            final var previousTreeEdgeCount = treeEdgeCount;
+
+            for (var component = 0; component < n; component++) {
+                final var edge = cheapest.get(component);
+
+                if (edge >= 0 && components.union(sources[edge], compactGraph.getTarget(edge))) {
+                    treeEdges[treeEdgeCount++] = edge;
+                }
+            }
+
+            if (treeEdgeCount == previousTreeEdgeCount) {
+                break;
+            }
+
+            pool.submit(() -> IntStream.range(0, n).parallel()
+                    .forEach(u -> {
+                        labels[u] = components.rootOf(labels[u]);
+                        cheapest.set(u, -1);
+                    }))
+                    .join();
+        }
+
+        return SpanningForest.toPredecessors(graph, sources, treeEdges, treeEdgeCount);
+    }
+
+    private static void findCheapestEdges(CompactGraph graph, int[] sources, int[] labels, AtomicIntegerArray cheapest, int u) {
+        final var component = labels[u];
+
+        for (var edge = graph.getEdgeBegin(u); edge < graph.getEdgeEnd(u); edge++) {
+            final var v = graph.getTarget(edge);
+
+            if (labels[v] == component) {
+                continue;
+            }
+
+            while (true) {
+                final var current = cheapest.get(component);
+
+                if (current >= 0 && !isLighter(graph, sources, edge, current)) {
+                    break;
+                }
+
+                if (cheapest.compareAndSet(component, current, edge)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    private static boolean isLighter(CompactGraph graph, int[] sources, int edge, int other) {
+        final var weight = graph.getWeight(edge);
+        final var otherWeight = graph.getWeight(other);
+
+        if (weight != otherWeight) {
+            return weight < otherWeight;
+        }
+
+        final var source = sources[edge];
+        final var target = graph.getTarget(edge);
+        final var otherSource = sources[other];
+        final var otherTarget = graph.getTarget(other);
+
+        final var low = Math.min(source, target);
+        final var otherLow = Math.min(otherSource, otherTarget);
+
+        if (low != otherLow) {
+            return low < otherLow;
+        }
+
+        return Math.max(source, target) < Math.max(otherSource, otherTarget);
+    }
+
+    public static void main(String[] args) {
+        var v0 = Vertex.of(0);
+        var v1 = Vertex.of(1);
+        var v2 = Vertex.of(2);
+        var v3 = Vertex.of(3);
+        var v4 = Vertex.of(4);
+
+        var vertices = List.of(v0, v1, v2, v3, v4);
+
+        var graph = Graph.of(vertices);
+
+        graph.joinUndirected(v0, v1, 2)
+                .joinUndirected(v1, v2, 3)
+                .joinUndirected(v2, v3, 5)
+                .joinUndirected(v3, v0, 8)
+                .joinUndirected(v0, v4, 4)
+                .joinUndirected(v2, v4, 1)
+                .joinUndirected(v4, v3, 7);
+
+        final var start = System.currentTimeMillis();
+        final var predecessors = BoruvkaSearcher.of(graph).computeMinimumSpanningTree();
+        final var duration = System.currentTimeMillis() - start;
+
+        System.out.println("BoruvkaSearcher duration: " + duration);
+        System.out.println(predecessors.toList());
+    }
+}
@@ -1,52 +1,320 @@
 package com.github.paulosalonso.algorithms.graph.searcher;
 
+import com.github.paulosalonso.algorithms.graph.CompactGraph;
 import com.github.paulosalonso.algorithms.graph.Graph;
 import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
 import lombok.RequiredArgsConstructor;
 
-import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
 
-import static com.github.paulosalonso.algorithms.graph.searcher.VertexStatus.*;
-import static java.util.stream.Collectors.toMap;
 import static lombok.AccessLevel.PRIVATE;
 
 @RequiredArgsConstructor(access = PRIVATE)
 public class BreadthFirstSearcher {
 
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int TOP_DOWN_ALPHA = 14;
+    private static final int BOTTOM_UP_BETA = 24;
+    private static final int TASKS_PER_THREAD = 4;
+    private static final int MIN_VERTICES_PER_TASK = 256;
+    private static final long UNCLAIMED = Long.MAX_VALUE;
+
     private final Graph graph;
+    private final ForkJoinPool pool;
 
     public static BreadthFirstSearcher of(Graph graph) {
+        return of(graph, ForkJoinPool.commonPool());
+    }
+
+    public static BreadthFirstSearcher of(Graph graph, ForkJoinPool pool) {
         if (graph == null) {
             throw new IllegalArgumentException("Graph must be not null");
         }
 
-        return new BreadthFirstSearcher(graph);
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must be not null");
+        }
+
+        return new BreadthFirstSearcher(graph, pool);
     }
 
     public Predecessors search(Vertex source) {
-        var predecessors = Predecessors.newInstance();
-        var statuses = graph.getVertices().stream()
-                .collect(toMap(vertex -> vertex, vertex -> UNVISITED));
+        return search(source, SearchWorkspace.of(graph));
+    }
+
+    public Predecessors search(Vertex source, SearchWorkspace workspace) {
+        final var sourceIndex = graph.indexOf(source);
+
+        if (sourceIndex < 0) {
+            throw new IllegalArgumentException("Source must belongs to graph");
+        }
+
+        if (workspace == null) {
+            throw new IllegalArgumentException("Workspace must be not null");
+        }
+
+        final var compactGraph = graph.toCompactGraph();
+
+        workspace.reset(compactGraph.getVertexCount());
+        workspace.reach(sourceIndex, 0, -1);
+
+        for (var head = 0; head < workspace.getReachedCount(); head++) {
+            final var u = workspace.getReached(head);
+            final var distance = workspace.getDistance(u) + 1;
+
+            for (var edge = compactGraph.getEdgeBegin(u); edge < compactGraph.getEdgeEnd(u); edge++) {
+                final var v = compactGraph.getTarget(edge);
+
+                if (!workspace.isReached(v)) {
+                    workspace.reach(v, distance, u);
+                }
+            }
+        }
+
+        return workspace.toReachedPredecessors(graph);
+    }
+
+    public Predecessors searchDirectionOptimizing(Vertex source) {
+        final var sourceIndex = graph.indexOf(source);
+
+        if (sourceIndex < 0) {
+            throw new IllegalArgumentException("Source must belongs to graph");
+        }
+
+        final var forwardGraph = graph.toCompactGraph();
+        final var backwardGraph = forwardGraph.reverse();
+        final var n = forwardGraph.getVertexCount();
+        final var words = (n + 63) >>> 6;
+        final var predecessors = new int[n];
+        final var distances = new int[n];
+        final var visited = new long[words];
+        var frontier = new long[words];
+        var next = new long[words];
+
+        Arrays.fill(predecessors, Predecessors.ABSENT);
+        Arrays.fill(distances, INFINITY);
+
+        predecessors[sourceIndex] = -1;
+        distances[sourceIndex] = 0;
+        set(visited, sourceIndex);
+        set(frontier, sourceIndex);
+
+        var frontierSize = 1L;
+        var frontierEdges = (long) degreeOf(forwardGraph, sourceIndex);
+        var unexploredEdges = (long) forwardGraph.getEdgeCount() - frontierEdges;
+        var bottomUp = false;
+
+        for (var level = 1; frontierSize > 0; level++) {
+            if (!bottomUp && frontierEdges > unexploredEdges / TOP_DOWN_ALPHA) {
+                bottomUp = true;
+            } else if (bottomUp && frontierSize < n / BOTTOM_UP_BETA) {
+                bottomUp = false;
+            }
+
+            Arrays.fill(next, 0L);
+
+            var nextSize = 0L;
+            var nextEdges = 0L;
+
+            if (bottomUp) {
+                for (var word = 0; word < words; word++) {
+                    for (var bits = ~visited[word]; bits != 0; bits &= bits - 1) {
+                        final var v = (word << 6) + Long.numberOfTrailingZeros(bits);
+
+                        if (v >= n) {
+                            break;
+                        }
+
+                        for (var edge = backwardGraph.getEdgeBegin(v); edge < backwardGraph.getEdgeEnd(v); edge++) {
+                            final var u = backwardGraph.getTarget(edge);
+
+                            if (isSet(frontier, u)) {
+                                predecessors[v] = u;
+                                distances[v] = level;
+                                set(visited, v);
+                                set(next, v);
+                                nextSize++;
+                                nextEdges += degreeOf(forwardGraph, v);
+                                break;
+                            }
+                        }
+                    }
+                }
+            } else {
+                for (var word = 0; word < words; word++) {
+                    for (var bits = frontier[word]; bits != 0; bits &= bits - 1) {
+                        final var u = (word << 6) + Long.numberOfTrailingZeros(bits);
+
+                        for (var edge = forwardGraph.getEdgeBegin(u); edge < forwardGraph.getEdgeEnd(u); edge++) {
+                            final var v = forwardGraph.getTarget(edge);
+
+                            if (!isSet(visited, v)) {
+                                predecessors[v] = u;
+                                distances[v] = level;
+                                set(visited, v);
+                                set(next, v);
+                                nextSize++;
+                                nextEdges += degreeOf(forwardGraph, v);
+                            }
+                        }
+                    }
+                }
+            }
+
+            final var swap = frontier;
+            frontier = next;
+            next = swap;
+            frontierSize = nextSize;
+            frontierEdges = nextEdges;
+            unexploredEdges -= nextEdges;
+        }
+
+        return Predecessors.of(graph, predecessors, distances);
+    }
+
+    public Predecessors searchInParallel(Vertex source) {
+        final var sourceIndex = graph.indexOf(source);
 
-        final var queue = new ArrayDeque<Vertex>();
-        queue.offer(source);
+        if (sourceIndex < 0) {
+            throw new IllegalArgumentException("Source must belongs to graph");
+        }
+
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+        final var words = (n + 63) >>> 6;
+        final var predecessors = new int[n];
+        final var distances = new int[n];
+        final var visited = new long[words];
+        final var claimed = new AtomicLongArray(words);
+        final var keys = new AtomicLongArray(n);
+        var frontier = new int[] {sourceIndex};
+
+        Arrays.fill(predecessors, Predecessors.ABSENT);
+        Arrays.fill(distances, INFINITY);
+
+        for (var v = 0; v < n; v++) {
+            keys.set(v, UNCLAIMED);
+        }
+
+        predecessors[sourceIndex] = -1;
+        distances[sourceIndex] = 0;
+        set(visited, sourceIndex);
+
+        for (var level = 1; frontier.length > 0; level++) {
+            final var current = frontier;
+            final var tasks = Math.min(pool.getParallelism() * TASKS_PER_THREAD, (current.length + MIN_VERTICES_PER_TASK - 1) / MIN_VERTICES_PER_TASK);
+            final List<IntList> buffers = tasks <= 1
+                    ? List.of(expand(compactGraph, current, 0, current.length, visited, claimed, keys))
+                    : pool.submit(() -> IntStream.range(0, tasks).parallel()
+                            .mapToObj(task -> expand(compactGraph, current, (int) ((long) current.length * task / tasks), (int) ((long) current.length * (task + 1) / tasks), visited, claimed, keys))
+                            .toList())
+                    .join();
+
+            var size = 0;
+
+            for (final var buffer : buffers) {
+                size += buffer.size();
+            }
+
+            final var discovered = new long[size];
+            var position = 0;
+
+            for (final var buffer : buffers) {
+                for (var i = 0; i < buffer.size(); i++) {
+                    final var v = buffer.get(i);
+                    discovered[position++] = keys.get(v);
+                    set(visited, v);
+                    claimed.set(v >>> 6, 0L);
+                }
+            }
+
+            Arrays.parallelSort(discovered);
+
+            frontier = new int[size];
+
+            for (var i = 0; i < size; i++) {
+                final var u = current[(int) (discovered[i] >>> 32)];
+                final var v = compactGraph.getTarget(compactGraph.getEdgeBegin(u) + (int) discovered[i]);
+
+                predecessors[v] = u;
+                distances[v] = level;
+                frontier[i] = v;
+            }
+        }
+
+        return Predecessors.of(graph, predecessors, distances);
+    }
+
+    private static IntList expand(CompactGraph graph, int[] frontier, int begin, int end, long[] visited,
+                                  AtomicLongArray claimed, AtomicLongArray keys) {
+        final var buffer = IntList.of();
 
-        statuses.put(source, VISITED);
+        for (var position = begin; position < end; position++) {
+            final var u = frontier[position];
+            final var edgeBegin = graph.getEdgeBegin(u);
 
-        while (!queue.isEmpty()) {
-            var currentVertex = queue.poll();
+            for (var edge = edgeBegin; edge < graph.getEdgeEnd(u); edge++) {
+                final var v = graph.getTarget(edge);
 
-            for (var neighbor : graph.getNeighbors(currentVertex)) {
-                if (statuses.get(neighbor).equals(UNVISITED)) {
-                    predecessors.put(neighbor, currentVertex);
-                    statuses.put(neighbor, VISITED);
-                    queue.offer(neighbor);
+                if (isSet(visited, v)) {
+                    continue;
+                }
+
+                final var key = (long) position << 32 | edge - edgeBegin;
+
+                if (key < keys.get(v)) {
+                    lowerKey(keys, v, key);
+                }
+
+                if (claim(claimed, v)) {
+                    buffer.add(v);
                 }
             }
+        }
 
-            statuses.put(currentVertex, DONE);
+        return buffer;
+    }
+
+    private static void lowerKey(AtomicLongArray keys, int vertex, long key) {
+        while (true) {
+            final var current = keys.get(vertex);
+
+            if (key >= current || keys.compareAndSet(vertex, current, key)) {
+                return;
+            }
         }
+    }
+
+    private static boolean claim(AtomicLongArray bits, int index) {
+        final var word = index >>> 6;
+        final var bit = 1L << index;
+
+        while (true) {
+            final var current = bits.get(word);
+
+            if ((current & bit) != 0) {
+                return false;
+            }
+
+            if (bits.compareAndSet(word, current, current | bit)) {
+                return true;
+            }
+        }
+    }
+
+    private static int degreeOf(CompactGraph graph, int vertex) {
+        return graph.getEdgeEnd(vertex) - graph.getEdgeBegin(vertex);
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & 1L << index) != 0;
+    }
 
-        return predecessors;
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
     }
 }
@@ -0,0 +1,142 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+class BucketQueue implements VertexQueue {
+
+    private static final int ABSENT = -2;
+
+    private final int[] heads;
+    private final int[] next;
+    private final int[] previous;
+    private final int[] priorities;
+    private int size;
+    private int cursor;
+
+    private BucketQueue(int capacity, int maxWeight) {
+        this.heads = new int[maxWeight + 1];
+        this.next = new int[capacity];
+        this.previous = new int[capacity];
+        this.priorities = new int[capacity];
+        Arrays.fill(heads, -1);
+        Arrays.fill(previous, ABSENT);
+    }
+
+    static BucketQueue of(int capacity, int maxWeight) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be greater than or equal to zero");
+        }
+
+        if (maxWeight < 0 || maxWeight == Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Max weight must be between zero and " + (Integer.MAX_VALUE - 1));
+        }
+
+        return new BucketQueue(capacity, maxWeight);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int peekPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+
+        return priorities[heads[advance()]];
+    }
+
+    @Override
+    public void offer(int key, int priority) {
+        if (previous[key] != ABSENT) {
+            if (priority >= priorities[key]) {
+                return;
+            }
+
+            unlink(key);
+        } else {
+            size++;
+        }
+
+        if (size == 1 || priority < cursor) {
+            cursor = priority;
+        }
+
+        priorities[key] = priority;
+        link(key);
+    }
+
+    @Override
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Queue is empty");
+        }
+
+        final var key = heads[advance()];
+        unlink(key);
+        previous[key] = ABSENT;
+        size--;
+
+        return key;
+    }
+
+    @Override
+    public void clear() {
+        for (var bucket = 0; bucket < heads.length && size > 0; bucket++) {
+            for (var key = heads[bucket]; key >= 0; key = next[key]) {
+                previous[key] = ABSENT;
+                size--;
+            }
+
+            heads[bucket] = -1;
+        }
+    }
+
+    private int advance() {
+        var bucket = cursor % heads.length;
+
+        while (heads[bucket] < 0) {
+            cursor++;
+            bucket = bucket + 1 == heads.length ? 0 : bucket + 1;
+        }
+
+        return bucket;
+    }
+
+    private void link(int key) {
+        final var bucket = priorities[key] % heads.length;
+        final var head = heads[bucket];
+
+        next[key] = head;
+        previous[key] = -1;
+
+        if (head >= 0) {
+            previous[head] = key;
+        }
+
+        heads[bucket] = key;
+    }
+
+    private void unlink(int key) {
+        final var before = previous[key];
+        final var after = next[key];
+
+        if (before >= 0) {
+            next[before] = after;
+        } else {
+            heads[priorities[key] % heads.length] = after;
+        }
+
+        if (after >= 0) {
+            previous[after] = before;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class ConcurrentDistances {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final AtomicLongArray entries;
+
+    private ConcurrentDistances(int size) {
+        this.entries = new AtomicLongArray(size);
+
+        for (var i = 0; i < size; i++) {
+            entries.set(i, pack(INFINITY, -1));
+        }
+    }
+
+    static ConcurrentDistances of(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must be greater than or equal to zero");
+        }
+
+        return new ConcurrentDistances(size);
+    }
+
+    int size() {
+        return entries.length();
+    }
+
+    int getDistance(int vertex) {
+        return (int) (entries.get(vertex) >> 32);
+    }
+
+    int getPredecessor(int vertex) {
+        return (int) entries.get(vertex);
+    }
+
+    void set(int vertex, int distance, int predecessor) {
+        entries.set(vertex, pack(distance, predecessor));
+    }
+
+    boolean relax(int vertex, int distance, int predecessor) {
+        final var entry = pack(distance, predecessor);
+
+        while (true) {
+            final var current = entries.get(vertex);
+
+            if (distance >= (int) (current >> 32)) {
+                return false;
+            }
+
+            if (entries.compareAndSet(vertex, current, entry)) {
+                return true;
+            }
+        }
+    }
+
+    int[] getDistances() {
+        final var distances = new int[size()];
+
+        for (var i = 0; i < distances.length; i++) {
+            distances[i] = getDistance(i);
+        }
+
+        return distances;
+    }
+
+    int[] getPredecessors() {
+        final var predecessors = new int[size()];
+
+        for (var i = 0; i < predecessors.length; i++) {
+            predecessors[i] = getPredecessor(i);
+        }
+
+        return predecessors;
+    }
+
+    private static long pack(int distance, int predecessor) {
+        return (long) distance << 32 | predecessor & 0xFFFFFFFFL;
+    }
+}
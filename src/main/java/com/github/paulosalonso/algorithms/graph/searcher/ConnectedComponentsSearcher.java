@@ -0,0 +1,207 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import com.github.paulosalonso.algorithms.graph.CompactGraph;
+import com.github.paulosalonso.algorithms.graph.Graph;
+import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+public class ConnectedComponentsSearcher {
+
+    private final Graph graph;
+    private final ForkJoinPool pool;
+
+    public static ConnectedComponentsSearcher of(Graph graph) {
+        return of(graph, ForkJoinPool.commonPool());
+    }
+
+    public static ConnectedComponentsSearcher of(Graph graph, ForkJoinPool pool) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph must be not null");
+        }
+
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must be not null");
+        }
+
+        return new ConnectedComponentsSearcher(graph, pool);
+    }
+
+    public int[] computeStronglyConnectedComponents() {
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+        final var components = new int[n];
+        final var indices = new int[n];
+        final var lowLinks = new int[n];
+        final var stack = new int[n];
+        final var callStack = new int[n];
+        final var cursors = new int[n];
+        var nextIndex = 0;
+        var stackSize = 0;
+        var componentCount = 0;
+
+        Arrays.fill(components, -1);
+        Arrays.fill(indices, -1);
+
+        for (var root = 0; root < n; root++) {
+            if (indices[root] >= 0) {
+                continue;
+            }
+
+            var depth = 0;
+            callStack[0] = root;
+            cursors[0] = compactGraph.getEdgeBegin(root);
+            indices[root] = lowLinks[root] = nextIndex++;
+            stack[stackSize++] = root;
+
+            while (depth >= 0) {
+                final var u = callStack[depth];
+
+                if (cursors[depth] < compactGraph.getEdgeEnd(u)) {
+                    final var v = compactGraph.getTarget(cursors[depth]++);
+
+                    if (indices[v] < 0) {
+                        indices[v] = lowLinks[v] = nextIndex++;
+                        stack[stackSize++] = v;
+
+                        depth++;
+                        callStack[depth] = v;
+                        cursors[depth] = compactGraph.getEdgeBegin(v);
+                    } else if (components[v] < 0) {
+                        lowLinks[u] = Math.min(lowLinks[u], indices[v]);
+                    }
+
+                    continue;
+                }
+
+                if (lowLinks[u] == indices[u]) {
+                    int member;
+
+                    do {
+                        member = stack[--stackSize];
+                        components[member] = componentCount;
+                    } while (member != u);
+
+                    componentCount++;
+                }
+
+                depth--;
+
+                if (depth >= 0) {
+                    final var parent = callStack[depth];
+                    lowLinks[parent] = Math.min(lowLinks[parent], lowLinks[u]);
+                }
+            }
+        }
+
+        return components;
+    }
+
+    public int[] computeWeaklyConnectedComponents() {
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+        final var parents = new AtomicIntegerArray(n);
+        final var components = new int[n];
+
+        for (var v = 0; v < n; v++) {
+            parents.set(v, v);
+        }
+
+        pool.submit(() -> IntStream.range(0, n).parallel()
+                .forEach(u -> unionNeighbors(compactGraph, parents, u)))
+                .join();
+
+        pool.submit(() -> IntStream.range(0, n).parallel()
+                .forEach(v -> components[v] = find(parents, v)))
+                .join();
+
+        var componentCount = 0;
+
+        for (var v = 0; v < n; v++) {
+            components[v] = components[v] == v ? componentCount++ : components[components[v]];
+        }
+
+        return components;
+    }
+
+    private static void unionNeighbors(CompactGraph graph, AtomicIntegerArray parents, int u) {
+        for (var edge = graph.getEdgeBegin(u); edge < graph.getEdgeEnd(u); edge++) {
+            union(parents, u, graph.getTarget(edge));
+        }
+    }
+
+    private static void union(AtomicIntegerArray parents, int a, int b) {
+        while (true) {
+            final var rootA = find(parents, a);
+            final var rootB = find(parents, b);
+
+            if (rootA == rootB) {
+                return;
+            }
+
+            final var larger = Math.max(rootA, rootB);
+            final var smaller = Math.min(rootA, rootB);
+
+            if (parents.compareAndSet(larger, larger, smaller)) {
+                return;
+            }
+        }
+    }
+
+    private static int find(AtomicIntegerArray parents, int vertex) {
+        while (true) {
+            final var parent = parents.get(vertex);
+
+            if (parent == vertex) {
+                return vertex;
+            }
+
+            final var grandparent = parents.get(parent);
+
+            if (parent != grandparent) {
+                parents.compareAndSet(vertex, parent, grandparent);
+            }
+
+            vertex = grandparent;
+        }
+    }
+
+    public static void main(String[] args) {
+        var v0 = Vertex.of(0);
+        var v1 = Vertex.of(1);
+        var v2 = Vertex.of(2);
+        var v3 = Vertex.of(3);
+        var v4 = Vertex.of(4);
+        var v5 = Vertex.of(5);
+
+        var vertices = List.of(v0, v1, v2, v3, v4, v5);
+
+        var graph = Graph.of(vertices);
+
+        graph.joinDirected(v0, v1, 6);
+        graph.joinDirected(v1, v2, 8);
+        graph.joinDirected(v2, v0, 18);
+        graph.joinDirected(v2, v3, 11);
+        graph.joinDirected(v3, v4, 9);
+        graph.joinDirected(v4, v3, 3);
+
+        final var connectedComponentsSearcher = ConnectedComponentsSearcher.of(graph);
+
+        final var start = System.currentTimeMillis();
+        final var strongComponents = connectedComponentsSearcher.computeStronglyConnectedComponents();
+        final var weakComponents = connectedComponentsSearcher.computeWeaklyConnectedComponents();
+        final var duration = System.currentTimeMillis() - start;
+
+        System.out.println("ConnectedComponentsSearcher duration: " + duration);
+        System.out.println("Strongly connected: " + Arrays.toString(strongComponents));
+        System.out.println("Weakly connected:   " + Arrays.toString(weakComponents));
+    }
+}
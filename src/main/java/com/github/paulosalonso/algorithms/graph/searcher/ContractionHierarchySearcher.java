@@ -0,0 +1,539 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import com.github.paulosalonso.algorithms.graph.CompactGraph;
+import com.github.paulosalonso.algorithms.graph.Graph;
+import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
+import com.github.paulosalonso.algorithms.graph.Path;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+public class ContractionHierarchySearcher {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int ESTIMATE_SETTLE_LIMIT = 16;
+    private static final int WITNESS_SETTLE_LIMIT = 256;
+
+    private final Graph graph;
+    private final int[] ranks;
+    private final EdgeArray upwardEdges;
+    private final EdgeArray downwardEdges;
+    private final ThreadLocal<SearchWorkspace> workspaces;
+
+    private ContractionHierarchySearcher(Graph graph) {
+        final var contractor = new Contractor(graph.toCompactGraph());
+        contractor.contractAll();
+
+        this.graph = graph;
+        this.ranks = contractor.ranks;
+        this.upwardEdges = contractor.upwardEdges.toEdgeArray(ranks.length);
+        this.downwardEdges = contractor.downwardEdges.toEdgeArray(ranks.length);
+        this.workspaces = ThreadLocal.withInitial(() -> SearchWorkspace.of(ranks.length));
+    }
+
+    public static ContractionHierarchySearcher of(Graph graph) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph must be not null");
+        }
+
+        return new ContractionHierarchySearcher(graph);
+    }
+
+    public int getShortcutCount() {
+        return upwardEdges.countShortcuts() + downwardEdges.countShortcuts();
+    }
+
+    public Optional<Path> search(Vertex source, Vertex target) {
+        return search(source, target, workspaces.get());
+    }
+
+    public Optional<Path> search(Vertex source, Vertex target, SearchWorkspace workspace) {
+        final var sourceIndex = graph.indexOf(source);
+        final var targetIndex = graph.indexOf(target);
+
+        if (sourceIndex < 0 || targetIndex < 0) {
+            throw new IllegalArgumentException("Source and target must belongs to graph");
+        }
+
+        if (workspace == null) {
+            throw new IllegalArgumentException("Workspace must be not null");
+        }
+
+        final var n = ranks.length;
+        final var forward = workspace;
+        final var backward = workspace.getBackward();
+
+        forward.reset(n);
+        backward.reset(n);
+        forward.reach(sourceIndex, 0, -1);
+        backward.reach(targetIndex, 0, -1);
+
+        final var forwardQueue = forward.getHeap();
+        final var backwardQueue = backward.getHeap();
+
+        forwardQueue.offer(sourceIndex, 0);
+        backwardQueue.offer(targetIndex, 0);
+
+        var bestDistance = Long.MAX_VALUE;
+        var meeting = -1;
+
+        while (true) {
+            final var forwardStep = !forwardQueue.isEmpty() && forwardQueue.peekPriority() < bestDistance;
+            final var backwardStep = !backwardQueue.isEmpty() && backwardQueue.peekPriority() < bestDistance;
+
+            if (!forwardStep && !backwardStep) {
+                break;
+            }
+
+            final var u = forwardStep && (!backwardStep || forwardQueue.size() <= backwardQueue.size())
+                    ? settle(upwardEdges, forwardQueue, forward)
+                    : settle(downwardEdges, backwardQueue, backward);
+
+            if (forward.isReached(u) && backward.isReached(u)
+                    && (long) forward.getDistance(u) + backward.getDistance(u) < bestDistance) {
+                bestDistance = (long) forward.getDistance(u) + backward.getDistance(u);
+                meeting = u;
+            }
+        }
+
+        if (meeting < 0) {
+            return Optional.empty();
+        }
+
+        return Optional.of(Path.of(unpack(meeting, forward, backward), (int) bestDistance));
+    }
+
+    private static int settle(EdgeArray edges, IndexedMinHeap queue, SearchWorkspace workspace) {
+        final var u = queue.poll();
+        final var distance = workspace.getDistance(u);
+
+        for (var edge = edges.offsets[u]; edge < edges.offsets[u + 1]; edge++) {
+            final var v = edges.targets[edge];
+            final var newDistance = (long) distance + edges.weights[edge];
+
+            if (newDistance < workspace.getDistance(v)) {
+                workspace.reach(v, (int) newDistance, edge);
+                queue.offer(v, (int) newDistance);
+            }
+        }
+
+        return u;
+    }
+
+    private List<Vertex> unpack(int meeting, SearchWorkspace forward, SearchWorkspace backward) {
+        final var path = IntList.of();
+        final var pending = IntList.of();
+
+        pending.add(meeting);
+
+        for (var edge = forward.getPredecessor(meeting); edge >= 0; edge = forward.getPredecessor(upwardEdges.sources[edge])) {
+            pending.add(upwardEdges.sources[edge]);
+        }
+
+        for (var i = pending.size() - 1; i > 0; i--) {
+            unpackEdge(pending.get(i), pending.get(i - 1), path);
+        }
+
+        var vertex = meeting;
+
+        for (var edge = backward.getPredecessor(meeting); edge >= 0; edge = backward.getPredecessor(vertex)) {
+            final var next = downwardEdges.sources[edge];
+            unpackEdge(vertex, next, path);
+            vertex = next;
+        }
+
+        path.add(vertex);
+
+        final var vertices = new ArrayList<Vertex>(path.size());
+
+        for (var i = 0; i < path.size(); i++) {
+            vertices.add(graph.getVertices().get(path.get(i)));
+        }
+
+        return vertices;
+    }
+
+    private void unpackEdge(int from, int to, IntList path) {
+        final var stack = IntList.of();
+        stack.add(from);
+        stack.add(to);
+
+        while (!stack.isEmpty()) {
+            final var b = stack.removeLast();
+            final var a = stack.removeLast();
+            final var middle = middleOf(a, b);
+
+            if (middle < 0) {
+                path.add(a);
+            } else {
+                stack.add(middle);
+                stack.add(b);
+                stack.add(a);
+                stack.add(middle);
+            }
+        }
+    }
+
+    private int middleOf(int from, int to) {
+        if (ranks[from] < ranks[to]) {
+            return upwardEdges.middleOf(from, to);
+        }
+
+        return downwardEdges.middleOf(to, from);
+    }
+
+    private static final class Contractor {
+
+        private final int n;
+        private final Adjacency[] outgoing;
+        private final Adjacency[] incoming;
+        private final int[] contractedNeighbors;
+        private final int[] levels;
+        private final int[] ranks;
+        private final EdgeBuffer upwardEdges;
+        private final EdgeBuffer downwardEdges;
+        private final int[] witnessDistances;
+        private final int[] witnessStamps;
+        private final IndexedMinHeap witnessQueue;
+        private int witnessStamp;
+
+        private Contractor(CompactGraph graph) {
+            this.n = graph.getVertexCount();
+            this.outgoing = new Adjacency[n];
+            this.incoming = new Adjacency[n];
+            this.contractedNeighbors = new int[n];
+            this.levels = new int[n];
+            this.ranks = new int[n];
+            this.upwardEdges = new EdgeBuffer();
+            this.downwardEdges = new EdgeBuffer();
+            this.witnessDistances = new int[n];
+            this.witnessStamps = new int[n];
+            this.witnessQueue = IndexedMinHeap.of(n);
+
+            for (var v = 0; v < n; v++) {
+                outgoing[v] = new Adjacency();
+                incoming[v] = new Adjacency();
+            }
+
+            for (var u = 0; u < n; u++) {
+                for (var edge = graph.getEdgeBegin(u); edge < graph.getEdgeEnd(u); edge++) {
+                    final var v = graph.getTarget(edge);
+
+                    if (graph.getWeight(edge) < 0) {
+                        throw new IllegalArgumentException("Graph must not have negative weights");
+                    }
+
+                    if (u != v) {
+                        outgoing[u].put(v, graph.getWeight(edge), -1);
+                        incoming[v].put(u, graph.getWeight(edge), -1);
+                    }
+                }
+            }
+        }
+
+        private void contractAll() {
+            final var queue = IndexedMinHeap.of(n);
+
+            for (var v = 0; v < n; v++) {
+                queue.offer(v, priorityOf(v));
+            }
+
+            var rank = 0;
+
+            while (!queue.isEmpty()) {
+                final var v = queue.poll();
+                final var priority = priorityOf(v);
+
+                if (!queue.isEmpty() && priority > queue.peekPriority()) {
+                    queue.offer(v, priority);
+                    continue;
+                }
+
+                contract(v);
+                ranks[v] = rank++;
+            }
+        }
+
+        private int priorityOf(int v) {
+            final var shortcuts = addShortcuts(v, false);
+            return 2 * (shortcuts - outgoing[v].size - incoming[v].size) + contractedNeighbors[v] + levels[v];
+        }
+
+        private void contract(int v) {
+            for (var i = 0; i < outgoing[v].size; i++) {
+                upwardEdges.add(v, outgoing[v].vertices[i], outgoing[v].weights[i], outgoing[v].middles[i]);
+            }
+
+            for (var i = 0; i < incoming[v].size; i++) {
+                downwardEdges.add(v, incoming[v].vertices[i], incoming[v].weights[i], incoming[v].middles[i]);
+            }
+
+            addShortcuts(v, true);
+
+            for (var i = 0; i < incoming[v].size; i++) {
+                final var u = incoming[v].vertices[i];
+                outgoing[u].remove(v);
+                contractedNeighbors[u]++;
+                levels[u] = Math.max(levels[u], levels[v] + 1);
+            }
+
+            for (var i = 0; i < outgoing[v].size; i++) {
+                final var x = outgoing[v].vertices[i];
+                incoming[x].remove(v);
+                contractedNeighbors[x]++;
+                levels[x] = Math.max(levels[x], levels[v] + 1);
+            }
+        }
+
+        private int addShortcuts(int v, boolean add) {
+            var shortcuts = 0;
+            final var in = incoming[v];
+            final var out = outgoing[v];
+
+            for (var i = 0; i < in.size; i++) {
+                final var u = in.vertices[i];
+                final var uWeight = in.weights[i];
+                var maxWeight = Long.MIN_VALUE;
+
+                for (var j = 0; j < out.size; j++) {
+                    if (out.vertices[j] != u) {
+                        maxWeight = Math.max(maxWeight, (long) uWeight + out.weights[j]);
+                    }
+                }
+
+                if (maxWeight == Long.MIN_VALUE) {
+                    continue;
+                }
+
+                searchWitnesses(u, v, maxWeight, add ? WITNESS_SETTLE_LIMIT : ESTIMATE_SETTLE_LIMIT);
+
+                for (var j = 0; j < out.size; j++) {
+                    final var x = out.vertices[j];
+                    final var weight = (long) uWeight + out.weights[j];
+
+                    if (x == u || witnessDistanceOf(x) <= weight) {
+                        continue;
+                    }
+
+                    shortcuts++;
+
+                    if (add) {
+                        outgoing[u].put(x, (int) weight, v);
+                        incoming[x].put(u, (int) weight, v);
+                    }
+                }
+            }
+
+            return shortcuts;
+        }
+
+        private void searchWitnesses(int source, int excluded, long maxDistance, int settleLimit) {
+            if (++witnessStamp == 0) {
+                Arrays.fill(witnessStamps, 0);
+                witnessStamp = 1;
+            }
+
+            witnessQueue.clear();
+            witnessStamps[source] = witnessStamp;
+            witnessDistances[source] = 0;
+            witnessQueue.offer(source, 0);
+
+            var settled = 0;
+
+            while (!witnessQueue.isEmpty() && settled++ < settleLimit) {
+                final var u = witnessQueue.poll();
+                final var distance = witnessDistances[u];
+
+                if (distance > maxDistance) {
+                    break;
+                }
+
+                final var out = outgoing[u];
+
+                for (var i = 0; i < out.size; i++) {
+                    final var x = out.vertices[i];
+
+                    if (x == excluded) {
+                        continue;
+                    }
+
+                    final var newDistance = (long) distance + out.weights[i];
+
+                    if (newDistance < witnessDistanceOf(x)) {
+                        witnessStamps[x] = witnessStamp;
+                        witnessDistances[x] = (int) newDistance;
+                        witnessQueue.offer(x, (int) newDistance);
+                    }
+                }
+            }
+
+            witnessQueue.clear();
+        }
+
+        private int witnessDistanceOf(int v) {
+            return witnessStamps[v] == witnessStamp ? witnessDistances[v] : INFINITY;
+        }
+    }
+
+    private static final class Adjacency {
+
+        private int[] vertices = new int[4];
+        private int[] weights = new int[4];
+        private int[] middles = new int[4];
+        private int size;
+
+        private void put(int vertex, int weight, int middle) {
+            for (var i = 0; i < size; i++) {
+                if (vertices[i] == vertex) {
+                    if (weight < weights[i]) {
+                        weights[i] = weight;
+                        middles[i] = middle;
+                    }
+
+                    return;
+                }
+            }
+
+            if (size == vertices.length) {
+                vertices = Arrays.copyOf(vertices, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+                middles = Arrays.copyOf(middles, size * 2);
+            }
+
+            vertices[size] = vertex;
+            weights[size] = weight;
+            middles[size++] = middle;
+        }
+
+        private void remove(int vertex) {
+            for (var i = 0; i < size; i++) {
+                if (vertices[i] == vertex) {
+                    size--;
+                    vertices[i] = vertices[size];
+                    weights[i] = weights[size];
+                    middles[i] = middles[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    private static final class EdgeBuffer {
+
+        private final IntList sources = IntList.of();
+        private final IntList targets = IntList.of();
+        private final IntList weights = IntList.of();
+        private final IntList middles = IntList.of();
+
+        private void add(int source, int target, int weight, int middle) {
+            sources.add(source);
+            targets.add(target);
+            weights.add(weight);
+            middles.add(middle);
+        }
+
+        private EdgeArray toEdgeArray(int n) {
+            return EdgeArray.of(n, sources, targets, weights, middles);
+        }
+    }
+
+    private static final class EdgeArray {
+
+        private final int[] offsets;
+        private final int[] sources;
+        private final int[] targets;
+        private final int[] weights;
+        private final int[] middles;
+
+        private EdgeArray(int[] offsets, int[] sources, int[] targets, int[] weights, int[] middles) {
+            this.offsets = offsets;
+            this.sources = sources;
+            this.targets = targets;
+            this.weights = weights;
+            this.middles = middles;
+        }
+
+        private static EdgeArray of(int n, IntList sources, IntList targets, IntList weights, IntList middles) {
+            final var offsets = new int[n + 1];
+
+            for (var i = 0; i < sources.size(); i++) {
+                offsets[sources.get(i) + 1]++;
+            }
+
+            for (var v = 0; v < n; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+
+            final var cursors = Arrays.copyOf(offsets, n);
+            final var sortedSources = new int[sources.size()];
+            final var sortedTargets = new int[sources.size()];
+            final var sortedWeights = new int[sources.size()];
+            final var sortedMiddles = new int[sources.size()];
+
+            for (var i = 0; i < sources.size(); i++) {
+                final var position = cursors[sources.get(i)]++;
+                sortedSources[position] = sources.get(i);
+                sortedTargets[position] = targets.get(i);
+                sortedWeights[position] = weights.get(i);
+                sortedMiddles[position] = middles.get(i);
+            }
+
+            return new EdgeArray(offsets, sortedSources, sortedTargets, sortedWeights, sortedMiddles);
+        }
+
+        private int middleOf(int source, int target) {
+            for (var edge = offsets[source]; edge < offsets[source + 1]; edge++) {
+                if (targets[edge] == target) {
+                    return middles[edge];
+                }
+            }
+
+            throw new IllegalStateException("Hierarchy has no edge between vertices");
+        }
+
+        private int countShortcuts() {
+            var shortcuts = 0;
+
+            for (final var middle : middles) {
+                if (middle >= 0) {
+                    shortcuts++;
+                }
+            }
+
+            return shortcuts;
+        }
+    }
+
+    public static void main(String[] args) {
+        var v0 = Vertex.of(0);
+        var v1 = Vertex.of(1);
+        var v2 = Vertex.of(2);
+        var v3 = Vertex.of(3);
+        var v4 = Vertex.of(4);
+        var v5 = Vertex.of(5);
+
+        var vertices = List.of(v0, v1, v2, v3, v4, v5);
+
+        var graph = Graph.of(vertices);
+
+        graph.joinDirected(v0, v1, 6);
+        graph.joinDirected(v0, v2, 8);
+        graph.joinDirected(v0, v3, 18);
+        graph.joinDirected(v1, v4, 11);
+        graph.joinDirected(v2, v3, 9);
+        graph.joinDirected(v4, v5, 3);
+        graph.joinDirected(v5, v2, 7);
+        graph.joinDirected(v5, v3, 4);
+
+        final var contractionHierarchySearcher = ContractionHierarchySearcher.of(graph);
+
+        final var start = System.currentTimeMillis();
+        final var path = contractionHierarchySearcher.search(v0, v5);
+        final var duration = System.currentTimeMillis() - start;
+
+        System.out.println("ContractionHierarchySearcher duration: " + duration);
+        System.out.println(path.orElseThrow());
+    }
+}
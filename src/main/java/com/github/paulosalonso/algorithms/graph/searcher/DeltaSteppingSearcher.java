@@ -0,0 +1,223 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import com.github.paulosalonso.algorithms.graph.CompactGraph;
+import com.github.paulosalonso.algorithms.graph.Graph;
+import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+public class DeltaSteppingSearcher {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int TASKS_PER_THREAD = 4;
+    private static final int MIN_VERTICES_PER_TASK = 256;
+
+    private final Graph graph;
+    private final int delta;
+    private final ForkJoinPool pool;
+
+    public static DeltaSteppingSearcher of(Graph graph) {
+        return of(graph, ForkJoinPool.commonPool());
+    }
+
+    public static DeltaSteppingSearcher of(Graph graph, ForkJoinPool pool) {
+        return create(graph, 0, pool);
+    }
+
+    public static DeltaSteppingSearcher of(Graph graph, int delta, ForkJoinPool pool) {
+        if (delta <= 0) {
+            throw new IllegalArgumentException("Delta must be greater than zero");
+        }
+
+        return create(graph, delta, pool);
+    }
+
+    private static DeltaSteppingSearcher create(Graph graph, int delta, ForkJoinPool pool) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph must be not null");
+        }
+
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must be not null");
+        }
+
+        return new DeltaSteppingSearcher(graph, delta, pool);
+    }
+
+    public Predecessors search(Vertex source) {
+        final var sourceIndex = graph.indexOf(source);
+
+        if (sourceIndex < 0) {
+            throw new IllegalArgumentException("Source must belongs to graph");
+        }
+
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+        final var maxWeight = maxWeightOf(compactGraph);
+        final var delta = this.delta > 0 ? this.delta : deltaOf(compactGraph, maxWeight);
+        final var buckets = new IntList[maxWeight / delta + 2];
+        final var distances = ConcurrentDistances.of(n);
+        final var frontierStamps = new int[n];
+        final var settledStamps = new int[n];
+        final var frontier = IntList.of();
+        final var settled = IntList.of();
+
+        distances.set(sourceIndex, 0, -1);
+        add(buckets, 0, sourceIndex);
+
+        var pending = 1;
+        var frontierStamp = 0;
+        var settledStamp = 0;
+
+        for (var bucket = 0; pending > 0; bucket++) {
+            final var slot = buckets[bucket % buckets.length];
+
+            if (slot == null || slot.isEmpty()) {
+                continue;
+            }
+
+            settled.clear();
+            settledStamp++;
+
+            while (!slot.isEmpty()) {
+                frontier.clear();
+                frontierStamp++;
+
+                for (var i = 0; i < slot.size(); i++) {
+                    final var v = slot.get(i);
+
+                    if (distances.getDistance(v) / delta != bucket || frontierStamps[v] == frontierStamp) {
+                        continue;
+                    }
+
+                    frontierStamps[v] = frontierStamp;
+                    frontier.add(v);
+
+                    if (settledStamps[v] != settledStamp) {
+                        settledStamps[v] = settledStamp;
+                        settled.add(v);
+                    }
+                }
+
+                pending -= slot.size();
+                slot.clear();
+                pending += relaxAll(compactGraph, distances, frontier, delta, true, buckets);
+            }
+
+            pending += relaxAll(compactGraph, distances, settled, delta, false, buckets);
+        }
+
+        return Predecessors.of(graph, distances.getPredecessors(), distances.getDistances());
+    }
+
+    private int relaxAll(CompactGraph graph, ConcurrentDistances distances, IntList vertices, int delta, boolean light, IntList[] buckets) {
+        final var size = vertices.size();
+        final var tasks = Math.min(pool.getParallelism() * TASKS_PER_THREAD, (size + MIN_VERTICES_PER_TASK - 1) / MIN_VERTICES_PER_TASK);
+
+        if (tasks == 0) {
+            return 0;
+        }
+
+        final List<IntList> improved = tasks == 1
+                ? List.of(relax(graph, distances, vertices, 0, size, delta, light))
+                : pool.submit(() -> IntStream.range(0, tasks).parallel()
+                        .mapToObj(task -> relax(graph, distances, vertices, (int) ((long) size * task / tasks), (int) ((long) size * (task + 1) / tasks), delta, light))
+                        .toList())
+                .join();
+
+        var added = 0;
+
+        for (final var targets : improved) {
+            for (var i = 0; i < targets.size(); i++) {
+                final var v = targets.get(i);
+                add(buckets, distances.getDistance(v) / delta % buckets.length, v);
+            }
+
+            added += targets.size();
+        }
+
+        return added;
+    }
+
+    private static IntList relax(CompactGraph graph, ConcurrentDistances distances, IntList vertices, int begin, int end, int delta, boolean light) {
+        final var improved = IntList.of();
+
+        for (var i = begin; i < end; i++) {
+            final var u = vertices.get(i);
+            final var distance = distances.getDistance(u);
+
+            for (var edge = graph.getEdgeBegin(u); edge < graph.getEdgeEnd(u); edge++) {
+                final var weight = graph.getWeight(edge);
+
+                if ((weight <= delta) != light) {
+                    continue;
+                }
+
+                final var newDistance = (long) distance + weight;
+                final var v = graph.getTarget(edge);
+
+                if (newDistance < INFINITY && distances.relax(v, (int) newDistance, u)) {
+                    improved.add(v);
+                }
+            }
+        }
+
+        return improved;
+    }
+
+    private static void add(IntList[] buckets, int slot, int vertex) {
+        if (buckets[slot] == null) {
+            buckets[slot] = IntList.of();
+        }
+
+        buckets[slot].add(vertex);
+    }
+
+    private static int maxWeightOf(CompactGraph graph) {
+        if (graph.getMinWeight() < 0) {
+            throw new IllegalArgumentException("Graph must not have negative weights");
+        }
+
+        return graph.getMaxWeight();
+    }
+
+    private static int deltaOf(CompactGraph graph, int maxWeight) {
+        final var edges = Math.max(1L, graph.getEdgeCount());
+        return (int) Math.max(1L, (long) maxWeight * graph.getVertexCount() / edges);
+    }
+
+    public static void main(String[] args) {
+        var v0 = Vertex.of(0);
+        var v1 = Vertex.of(1);
+        var v2 = Vertex.of(2);
+        var v3 = Vertex.of(3);
+        var v4 = Vertex.of(4);
+        var v5 = Vertex.of(5);
+
+        var vertices = List.of(v0, v1, v2, v3, v4, v5);
+
+        var graph = Graph.of(vertices);
+
+        graph.joinDirected(v0, v1, 6);
+        graph.joinDirected(v0, v2, 8);
+        graph.joinDirected(v0, v3, 18);
+        graph.joinDirected(v1, v4, 11);
+        graph.joinDirected(v2, v3, 9);
+        graph.joinDirected(v4, v5, 3);
+        graph.joinDirected(v5, v2, 7);
+        graph.joinDirected(v5, v3, 4);
+
+        final var start = System.currentTimeMillis();
+        final var predecessors = DeltaSteppingSearcher.of(graph).search(v0);
+        final var duration = System.currentTimeMillis() - start;
+
+        System.out.println("DeltaSteppingSearcher duration: " + duration);
+        System.out.println(predecessors.toList());
+    }
+}
@@ -4,7 +4,6 @@ import com.github.paulosalonso.algorithms.graph.Graph;
 import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
 import lombok.RequiredArgsConstructor;
 
-import java.util.HashMap;
 import java.util.List;
 
 import static lombok.AccessLevel.PRIVATE;
@@ -23,57 +22,61 @@ public class DenseGraphDijkstraSearcher {
     }
 
     public Predecessors search(Vertex source) {
+        return search(source, SearchWorkspace.of(graph));
+    }
+
+    public Predecessors search(Vertex source, SearchWorkspace workspace) {
+        final var sourceIndex = graph.indexOf(source);
 
-        final var distances = new HashMap<Vertex, Integer>();
-        final var predecessors = new HashMap<Vertex, Vertex>();
-        final var visited = new HashMap<Vertex, Boolean>();
+        if (sourceIndex < 0) {
+            throw new IllegalArgumentException("Source must belongs to graph");
+        }
 
-        for (final var vertex : graph.getVertices()) {
-            distances.put(vertex, Integer.MAX_VALUE);
-            predecessors.put(vertex, null);
-            visited.put(vertex, false);
+        if (workspace == null) {
+            throw new IllegalArgumentException("Workspace must be not null");
         }
 
-        distances.put(source, 0);
+        final var compactGraph = graph.toCompactGraph();
+
+        workspace.reset(compactGraph.getVertexCount());
+        workspace.reach(sourceIndex, 0, -1);
 
         while (true) {
-            Vertex visitedVertex = null;
+            var visitedVertex = -1;
             var shortestDistance = Integer.MAX_VALUE;
 
-            for (var vertex : graph.getVertices()) {
-                final var vertexDistance = distances.get(vertex);
+            for (var i = 0; i < workspace.getReachedCount(); i++) {
+                final var vertex = workspace.getReached(i);
+                final var vertexDistance = workspace.getDistance(vertex);
 
-                if (!visited.get(vertex) && vertexDistance < shortestDistance) {
+                if (!workspace.isSettled(vertex) && vertexDistance < shortestDistance) {
                     shortestDistance = vertexDistance;
                     visitedVertex = vertex;
                 }
             }
 
-            if (visitedVertex == null) {
+            if (visitedVertex < 0) {
                 break;
             }
 
-            visited.put(visitedVertex, true);
+            workspace.settle(visitedVertex);
+
+            for (var edge = compactGraph.getEdgeBegin(visitedVertex); edge < compactGraph.getEdgeEnd(visitedVertex); edge++) {
+                final var vertex = compactGraph.getTarget(edge);
 
-            for (var vertex : graph.getVertices()) {
-                if (vertex.equals(visitedVertex)) {
+                if (workspace.isSettled(vertex)) {
                     continue;
                 }
 
-                final var distance = graph.getDistance(visitedVertex, vertex);
-
-                if (distance.isPresent()) {
-                    final var newDistance = distances.get(visitedVertex) + distance.get();
+                final var newDistance = (long) shortestDistance + compactGraph.getWeight(edge);
 
-                    if (newDistance < distances.get(vertex)) {
-                        distances.put(vertex, newDistance);
-                        predecessors.put(vertex, visitedVertex);
-                    }
+                if (newDistance < workspace.getDistance(vertex)) {
+                    workspace.reach(vertex, (int) newDistance, visitedVertex);
                 }
             }
         }
 
-        return Predecessors.of(predecessors, distances);
+        return workspace.toPredecessors(graph);
     }
 
     public static void main(String[] args) {
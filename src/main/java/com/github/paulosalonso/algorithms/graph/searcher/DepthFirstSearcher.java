@@ -1,18 +1,18 @@
 package com.github.paulosalonso.algorithms.graph.searcher;
 
+import com.github.paulosalonso.algorithms.graph.CompactGraph;
 import com.github.paulosalonso.algorithms.graph.Graph;
 import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
 import lombok.RequiredArgsConstructor;
 
-import java.util.Map;
-
 import static com.github.paulosalonso.algorithms.graph.searcher.VertexStatus.*;
-import static java.util.stream.Collectors.toMap;
 import static lombok.AccessLevel.PRIVATE;
 
 @RequiredArgsConstructor(access = PRIVATE)
 public class DepthFirstSearcher {
 
+    private static final VertexStatus[] STATUSES = VertexStatus.values();
+
     private final Graph graph;
 
     public static DepthFirstSearcher of(Graph graph) {
@@ -24,25 +24,107 @@ public class DepthFirstSearcher {
     }
 
     public Predecessors search(Vertex source) {
-        var predecessors = Predecessors.newInstance();
-        var verticesStatus = graph.getVertices().stream()
-                .collect(toMap(vertex -> vertex, vertex -> UNVISITED));
+        return search(source, SearchWorkspace.of(graph));
+    }
+
+    public Predecessors search(Vertex source, SearchWorkspace workspace) {
+        final var sourceIndex = graph.indexOf(source);
+
+        if (sourceIndex < 0) {
+            throw new IllegalArgumentException("Source must belongs to graph");
+        }
+
+        if (workspace == null) {
+            throw new IllegalArgumentException("Workspace must be not null");
+        }
+
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+
+        workspace.reset(n);
+
+        traverse(compactGraph, sourceIndex, workspace.getStatuses(n), workspace.getStack(), workspace.getCursors(),
+                new DepthFirstVisitor() {
+                    @Override
+                    public void onPreOrder(int vertex, int parent) {
+                        workspace.reach(vertex, -1, parent);
+                    }
+                });
+
+        return workspace.toReachedPredecessors(graph);
+    }
+
+    public void traverse(Vertex source, DepthFirstVisitor visitor) {
+        final var sourceIndex = graph.indexOf(source);
+
+        if (sourceIndex < 0) {
+            throw new IllegalArgumentException("Source must belongs to graph");
+        }
 
-        visit(graph, source, predecessors, verticesStatus);
+        if (visitor == null) {
+            throw new IllegalArgumentException("Visitor must be not null");
+        }
+
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+
+        traverse(compactGraph, sourceIndex, new long[(n + 31) >>> 5], new int[n], new int[n], visitor);
+    }
 
-        return predecessors;
+    public void traverse(DepthFirstVisitor visitor) {
+        if (visitor == null) {
+            throw new IllegalArgumentException("Visitor must be not null");
+        }
+
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+        final var statuses = new long[(n + 31) >>> 5];
+        final var stack = new int[n];
+        final var cursors = new int[n];
+
+        for (var root = 0; root < n; root++) {
+            if (statusOf(statuses, root) == UNVISITED) {
+                traverse(compactGraph, root, statuses, stack, cursors, visitor);
+            }
+        }
     }
 
-    private void visit(Graph graph, Vertex source, Predecessors predecessors, Map<Vertex, VertexStatus> verticesStatus) {
-        verticesStatus.put(source, VISITED);
+    private static void traverse(CompactGraph graph, int source, long[] statuses, int[] stack, int[] cursors, DepthFirstVisitor visitor) {
+        var depth = 0;
+
+        stack[0] = source;
+        cursors[0] = graph.getEdgeBegin(source);
+        setStatus(statuses, source, VISITED);
+        visitor.onPreOrder(source, -1);
+
+        while (depth >= 0) {
+            final var vertex = stack[depth];
+
+            if (cursors[depth] < graph.getEdgeEnd(vertex)) {
+                final var neighbor = graph.getTarget(cursors[depth]++);
 
-        for (var neighbor : graph.getNeighbors(source)) {
-            if (verticesStatus.get(neighbor).equals(UNVISITED)) {
-                predecessors.put(neighbor, source);
-                visit(graph, neighbor, predecessors, verticesStatus);
+                if (statusOf(statuses, neighbor) == UNVISITED) {
+                    setStatus(statuses, neighbor, VISITED);
+                    visitor.onPreOrder(neighbor, vertex);
+
+                    depth++;
+                    stack[depth] = neighbor;
+                    cursors[depth] = graph.getEdgeBegin(neighbor);
+                }
+            } else {
+                setStatus(statuses, vertex, DONE);
+                visitor.onPostOrder(vertex, depth > 0 ? stack[depth - 1] : -1);
+                depth--;
             }
         }
+    }
+
+    private static VertexStatus statusOf(long[] statuses, int vertex) {
+        return STATUSES[(int) (statuses[vertex >>> 5] >>> ((vertex & 31) << 1)) & 3];
+    }
 
-        verticesStatus.put(source, DONE);
+    private static void setStatus(long[] statuses, int vertex, VertexStatus status) {
+        final var shift = (vertex & 31) << 1;
+        statuses[vertex >>> 5] = statuses[vertex >>> 5] & ~(3L << shift) | (long) status.ordinal() << shift;
     }
 }
@@ -0,0 +1,8 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+public interface DepthFirstVisitor {
+
+    default void onPreOrder(int vertex, int parent) {}
+
+    default void onPostOrder(int vertex, int parent) {}
+}
@@ -1,16 +1,25 @@
 package com.github.paulosalonso.algorithms.graph.searcher;
 
+import com.github.paulosalonso.algorithms.graph.CompactGraph;
 import com.github.paulosalonso.algorithms.graph.Graph;
 import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
+import com.github.paulosalonso.algorithms.graph.Path;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static lombok.AccessLevel.PRIVATE;
 
 @RequiredArgsConstructor(access = PRIVATE)
 public class DijkstraSearcher {
 
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int MAX_BUCKET_WEIGHT = 4096;
+
     private final Graph graph;
 
     public static DijkstraSearcher of(Graph graph) {
@@ -22,37 +31,201 @@ public class DijkstraSearcher {
     }
 
     public Predecessors search(Vertex source) {
-        final var predecessors = Predecessors.newInstance();
+        final var sourceIndex = graph.indexOf(source);
+
+        if (sourceIndex < 0) {
+            throw new IllegalArgumentException("Source must belongs to graph");
+        }
+
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+        final var distances = new int[n];
+        final var predecessors = new int[n];
+
+        search(compactGraph, sourceIndex, distances, predecessors, queueFor(compactGraph));
+
+        return Predecessors.of(graph, predecessors, distances);
+    }
+
+    public Predecessors search(Vertex source, SearchWorkspace workspace) {
+        final var sourceIndex = graph.indexOf(source);
+
+        if (sourceIndex < 0) {
+            throw new IllegalArgumentException("Source must belongs to graph");
+        }
+
+        if (workspace == null) {
+            throw new IllegalArgumentException("Workspace must be not null");
+        }
+
+        final var compactGraph = graph.toCompactGraph();
+
+        workspace.reset(compactGraph.getVertexCount());
+        workspace.reach(sourceIndex, 0, -1);
+
+        final var queue = workspace.getQueue(compactGraph);
+        queue.offer(sourceIndex, 0);
+
+        while (!queue.isEmpty()) {
+            final var u = queue.poll();
+            final var distance = workspace.getDistance(u);
+
+            for (var edge = compactGraph.getEdgeBegin(u); edge < compactGraph.getEdgeEnd(u); edge++) {
+                final var v = compactGraph.getTarget(edge);
+                final var newDistance = (long) distance + compactGraph.getWeight(edge);
 
-        for (Vertex vertex : graph.getVertices()) {
-            if (vertex.equals(source)) {
-                predecessors.put(vertex, null, 0);
-            } else {
-                predecessors.put(vertex, source, Integer.MAX_VALUE);
+                if (newDistance < workspace.getDistance(v)) {
+                    workspace.reach(v, (int) newDistance, u);
+                    queue.offer(v, (int) newDistance);
+                }
             }
         }
 
-        final var priorityQueue = predecessors.toPriorityQueue();
+        return workspace.toPredecessors(graph);
+    }
+
+    public Optional<Path> search(Vertex source, Vertex target) {
+        return search(source, target, SearchWorkspace.of(graph));
+    }
+
+    public Optional<Path> search(Vertex source, Vertex target, SearchWorkspace workspace) {
+        final var sourceIndex = graph.indexOf(source);
+        final var targetIndex = graph.indexOf(target);
+
+        if (sourceIndex < 0 || targetIndex < 0) {
+            throw new IllegalArgumentException("Source and target must belongs to graph");
+        }
+
+        if (workspace == null) {
+            throw new IllegalArgumentException("Workspace must be not null");
+        }
 
-        while (!priorityQueue.isEmpty()) {
-            final var predecessor = priorityQueue.poll();
+        final var forwardGraph = graph.toCompactGraph();
+        final var backwardGraph = forwardGraph.reverse();
+        final var n = forwardGraph.getVertexCount();
+        final var forward = workspace;
+        final var backward = workspace.getBackward();
 
-            for (var neighborEdge : graph.getForwardEdges(predecessor.getVertex())) {
-                final var neighborVertex = neighborEdge.getTo();
-                final var neighborPredecessor = predecessors.getPredecessorOf(neighborVertex);
-                final var currentDistance = neighborPredecessor.getDistance();
-                final var newDistance = predecessor.getDistance() + neighborEdge.getDistance();
+        forward.reset(n);
+        backward.reset(n);
+        forward.reach(sourceIndex, 0, -1);
+        backward.reach(targetIndex, 0, -1);
 
-                if (newDistance < currentDistance) {
-                    predecessors.put(neighborVertex, predecessor.getVertex(), newDistance);
+        final var forwardQueue = forward.getQueue(forwardGraph);
+        final var backwardQueue = backward.getQueue(forwardGraph);
+
+        forwardQueue.offer(sourceIndex, 0);
+        backwardQueue.offer(targetIndex, 0);
+
+        var bestDistance = sourceIndex == targetIndex ? 0L : Long.MAX_VALUE;
+        var meeting = sourceIndex == targetIndex ? sourceIndex : -1;
+
+        while (!forwardQueue.isEmpty() && !backwardQueue.isEmpty()
+                && (long) forwardQueue.peekPriority() + backwardQueue.peekPriority() < bestDistance) {
+            final var forwardStep = forwardQueue.size() <= backwardQueue.size();
+            final var u = forwardStep
+                    ? settle(forwardGraph, forwardQueue, forward)
+                    : settle(backwardGraph, backwardQueue, backward);
+            final var candidate = forwardStep
+                    ? findMeeting(forwardGraph, u, forward, backward)
+                    : findMeeting(backwardGraph, u, backward, forward);
+
+            if (candidate >= 0 && (long) forward.getDistance(candidate) + backward.getDistance(candidate) < bestDistance) {
+                bestDistance = (long) forward.getDistance(candidate) + backward.getDistance(candidate);
+                meeting = candidate;
+            }
+        }
+
+        if (meeting < 0) {
+            return Optional.empty();
+        }
 
-                    priorityQueue.remove(neighborPredecessor);
-                    priorityQueue.offer(predecessors.getPredecessorOf(neighborVertex));
+        final var vertices = new ArrayList<Vertex>();
+
+        for (var vertex = meeting; vertex >= 0; vertex = forward.getPredecessor(vertex)) {
+            vertices.add(forwardGraph.getVertex(vertex));
+        }
+
+        Collections.reverse(vertices);
+
+        for (var vertex = backward.getPredecessor(meeting); vertex >= 0; vertex = backward.getPredecessor(vertex)) {
+            vertices.add(forwardGraph.getVertex(vertex));
+        }
+
+        return Optional.of(Path.of(vertices, (int) bestDistance));
+    }
+
+    private static int settle(CompactGraph graph, VertexQueue queue, SearchWorkspace workspace) {
+        final var u = queue.poll();
+        final var distance = workspace.getDistance(u);
+
+        for (var edge = graph.getEdgeBegin(u); edge < graph.getEdgeEnd(u); edge++) {
+            final var v = graph.getTarget(edge);
+            final var newDistance = (long) distance + graph.getWeight(edge);
+
+            if (newDistance < workspace.getDistance(v)) {
+                workspace.reach(v, (int) newDistance, u);
+                queue.offer(v, (int) newDistance);
+            }
+        }
+
+        return u;
+    }
+
+    private static int findMeeting(CompactGraph graph, int u, SearchWorkspace workspace, SearchWorkspace opposite) {
+        var meeting = -1;
+        var bestDistance = Long.MAX_VALUE;
+
+        for (var edge = graph.getEdgeBegin(u); edge < graph.getEdgeEnd(u); edge++) {
+            final var v = graph.getTarget(edge);
+
+            if (opposite.isReached(v)) {
+                final var distance = (long) workspace.getDistance(v) + opposite.getDistance(v);
+
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    meeting = v;
                 }
             }
         }
 
-        return predecessors;
+        return meeting;
+    }
+
+    static VertexQueue queueFor(CompactGraph graph) {
+        if (!fitsBuckets(graph)) {
+            return IndexedMinHeap.of(graph.getVertexCount());
+        }
+
+        return BucketQueue.of(graph.getVertexCount(), graph.getMaxWeight());
+    }
+
+    static boolean fitsBuckets(CompactGraph graph) {
+        return graph.getMinWeight() >= 0 && graph.getMaxWeight() <= MAX_BUCKET_WEIGHT;
+    }
+
+    static void search(CompactGraph graph, int source, int[] distances, int[] predecessors, VertexQueue queue) {
+        Arrays.fill(distances, INFINITY);
+        Arrays.fill(predecessors, -1);
+
+        distances[source] = 0;
+        queue.offer(source, 0);
+
+        while (!queue.isEmpty()) {
+            final var u = queue.poll();
+            final var distance = distances[u];
+
+            for (var edge = graph.getEdgeBegin(u); edge < graph.getEdgeEnd(u); edge++) {
+                final var v = graph.getTarget(edge);
+                final var newDistance = (long) distance + graph.getWeight(edge);
+
+                if (newDistance < distances[v]) {
+                    distances[v] = (int) newDistance;
+                    predecessors[v] = u;
+                    queue.offer(v, (int) newDistance);
+                }
+            }
+        }
     }
 
     public static void main(String[] args) {
@@ -0,0 +1,64 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+class DisjointSet {
+
+    private final int[] parents;
+    private final byte[] ranks;
+
+    private DisjointSet(int size) {
+        this.parents = new int[size];
+        this.ranks = new byte[size];
+
+        for (var i = 0; i < size; i++) {
+            parents[i] = i;
+        }
+    }
+
+    static DisjointSet of(int size) {
+        if (size < 0) {
+            throw new IllegalArgumentException("Size must be greater than or equal to zero");
+        }
+
+        return new DisjointSet(size);
+    }
+
+    int find(int element) {
+        while (parents[element] != element) {
+            parents[element] = parents[parents[element]];
+            element = parents[element];
+        }
+
+        return element;
+    }
+
+    int rootOf(int element) {
+        while (parents[element] != element) {
+            element = parents[element];
+        }
+
+        return element;
+    }
+
+    boolean union(int a, int b) {
+        var rootA = find(a);
+        var rootB = find(b);
+
+        if (rootA == rootB) {
+            return false;
+        }
+
+        if (ranks[rootA] < ranks[rootB]) {
+            final var swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+
+        parents[rootB] = rootA;
+
+        if (ranks[rootA] == ranks[rootB]) {
+            ranks[rootA]++;
+        }
+
+        return true;
+    }
+}
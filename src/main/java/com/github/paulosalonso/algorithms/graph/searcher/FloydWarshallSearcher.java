@@ -1,85 +1,184 @@
 package com.github.paulosalonso.algorithms.graph.searcher;
 
+import com.github.paulosalonso.algorithms.graph.CompactGraph;
 import com.github.paulosalonso.algorithms.graph.Graph;
-import com.github.paulosalonso.algorithms.graph.Graph.Edge;
 import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
 import com.github.paulosalonso.algorithms.graph.Path;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
 public class FloydWarshallSearcher {
 
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int BLOCK_SIZE = 64;
+
     private final Graph graph;
-    private final long[][] dist;
-    private final int[][] pred;
+    private final ForkJoinPool pool;
+    private final int n;
+    private final int[] dist;
+    private final int[] pred;
 
-    private FloydWarshallSearcher(final Graph graph) {
+    private FloydWarshallSearcher(final Graph graph, final ForkJoinPool pool, final boolean withPredecessors) {
         this.graph = graph;
-        final var n = graph.getVertices().size();
-        this.dist = new long[n][n];
-        this.pred = new int[n][n];
+        this.pool = pool;
+        this.n = graph.getVertices().size();
+        this.dist = new int[n * n];
+        this.pred = withPredecessors ? new int[n * n] : null;
         calculateAllPairsShortestPath();
     }
 
     public static FloydWarshallSearcher of(final Graph graph) {
+        return of(graph, ForkJoinPool.commonPool());
+    }
+
+    public static FloydWarshallSearcher of(final Graph graph, final ForkJoinPool pool) {
+        validate(graph, pool);
+        return new FloydWarshallSearcher(graph, pool, true);
+    }
+
+    public static FloydWarshallSearcher ofDistancesOnly(final Graph graph) {
+        return ofDistancesOnly(graph, ForkJoinPool.commonPool());
+    }
+
+    public static FloydWarshallSearcher ofDistancesOnly(final Graph graph, final ForkJoinPool pool) {
+        validate(graph, pool);
+        return new FloydWarshallSearcher(graph, pool, false);
+    }
+
+    private static void validate(final Graph graph, final ForkJoinPool pool) {
         if (graph == null) {
             throw new IllegalArgumentException("Graph must be not null");
         }
 
-        return new FloydWarshallSearcher(graph);
-    }
-
-    public Path getShortestPath(final Vertex from, final Vertex to) {
-        final var fromIndex = graph.indexOf(from);
-        final var toIndex = graph.indexOf(to);
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must be not null");
+        }
 
-        final var vertices = new ArrayList<Vertex>();
-        vertices.add(to);
+        if ((long) graph.getVertices().size() * graph.getVertices().size() > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Graph is too large for an all pairs table");
+        }
+    }
 
-        Vertex predecessor = to;
-        int predecessorIndex = toIndex;
+    public Optional<Integer> getDistance(final Vertex from, final Vertex to) {
+        return AllPairsTable.getDistance(graph, dist, from, to);
+    }
 
-        while (predecessor != from) {
-            predecessorIndex = pred[fromIndex][predecessorIndex];
-            predecessor = graph.getVertices().get(predecessorIndex);
-            vertices.add(0, predecessor);
+    public Path getShortestPath(final Vertex from, final Vertex to) {
+        if (pred == null) {
+            throw new IllegalStateException("Predecessors were not computed");
         }
 
-        return Path.of(vertices, (int) dist[fromIndex][toIndex]);
+        return AllPairsTable.getShortestPath(graph, dist, pred, from, to);
+    }
+
+    public void writeTo(final java.nio.file.Path file) throws IOException {
+        MappedShortestPathTable.write(file, graph.getVertices(), dist, pred);
     }
 
     private void calculateAllPairsShortestPath() {
-        final var vertices = graph.getVertices();
-        final var n = vertices.size();
+        final var compactGraph = graph.toCompactGraph();
+
+        Arrays.fill(dist, INFINITY);
 
         for (var u = 0; u < n; u++) {
-            for (var v = 0; v < n; v++) {
-                dist[u][v] = Integer.MAX_VALUE;
-                pred[u][v] = -1;
+            dist[u * n + u] = 0;
+
+            for (var edge = compactGraph.getEdgeBegin(u); edge < compactGraph.getEdgeEnd(u); edge++) {
+                final var v = compactGraph.getTarget(edge);
+                dist[u * n + v] = Math.min(dist[u * n + v], compactGraph.getWeight(edge));
             }
+        }
+
+        final var blocks = (n + BLOCK_SIZE - 1) / BLOCK_SIZE;
+
+        for (var kBlock = 0; kBlock < blocks; kBlock++) {
+            final var k = kBlock;
+
+            relaxBlock(k, k, k);
+
+            pool.submit(() -> IntStream.range(0, 2 * blocks).parallel()
+                    .filter(block -> block % blocks != k)
+                    .forEach(block -> {
+                        if (block < blocks) {
+                            relaxBlock(k, block, k);
+                        } else {
+                            relaxBlock(block - blocks, k, k);
+                        }
+                    }))
+                    .join();
+
+            pool.submit(() -> IntStream.range(0, blocks * blocks).parallel()
+                    .filter(block -> block / blocks != k && block % blocks != k)
+                    .forEach(block -> relaxBlock(block / blocks, block % blocks, k)))
+                    .join();
+        }
+
+        if (pred != null) {
+            pool.submit(() -> IntStream.range(0, blocks).parallel()
+                    .forEach(block -> buildPredecessors(compactGraph, block)))
+                    .join();
+        }
+    }
+
+    private void buildPredecessors(final CompactGraph compactGraph, final int uBlock) {
+        final var queue = new int[n];
+        final var uEnd = Math.min(n, (uBlock + 1) * BLOCK_SIZE);
 
-            dist[u][u] = 0;
+        for (var u = uBlock * BLOCK_SIZE; u < uEnd; u++) {
+            final var uRow = u * n;
+            Arrays.fill(pred, uRow, uRow + n, -1);
 
-            final var neighborEdges = graph.getForwardEdges(vertices.get(u));
+            var head = 0;
+            var tail = 0;
+            queue[tail++] = u;
 
-            for (final Edge neighborEdge : neighborEdges) {
-                final var neighborVertex = neighborEdge.getTo();
-                final var v = vertices.indexOf(neighborVertex);
+            while (head < tail) {
+                final var x = queue[head++];
+                final var ux = dist[uRow + x];
 
-                dist[u][v] = neighborEdge.getDistance();
-                pred[u][v] = u;
+                for (var edge = compactGraph.getEdgeBegin(x); edge < compactGraph.getEdgeEnd(x); edge++) {
+                    final var v = compactGraph.getTarget(edge);
+
+                    if (v != u && pred[uRow + v] < 0 && (long) ux + compactGraph.getWeight(edge) == dist[uRow + v]) {
+                        pred[uRow + v] = x;
+                        queue[tail++] = v;
+                    }
+                }
             }
         }
+    }
+
+    private void relaxBlock(final int uBlock, final int vBlock, final int kBlock) {
+        final var uEnd = Math.min(n, (uBlock + 1) * BLOCK_SIZE);
+        final var vBegin = vBlock * BLOCK_SIZE;
+        final var vEnd = Math.min(n, vBegin + BLOCK_SIZE);
+        final var kEnd = Math.min(n, (kBlock + 1) * BLOCK_SIZE);
+
+        for (var k = kBlock * BLOCK_SIZE; k < kEnd; k++) {
+            final var kRow = k * n;
+
+            for (var u = uBlock * BLOCK_SIZE; u < uEnd; u++) {
+                final var uRow = u * n;
+                final var uk = dist[uRow + k];
+
+                if (uk == INFINITY) {
+                    continue;
+                }
+
+                for (var v = vBegin; v < vEnd; v++) {
+                    final var kv = dist[kRow + v];
 
-        for (var k = 0; k < n; k++) {
-            for (var u = 0; u < n; u++) {
-                for (var v = 0; v < n; v++) {
-                    final var newDistance = dist[u][k] + dist[k][v];
+                    if (kv != INFINITY) {
+                        final var newDistance = (long) uk + kv;
 
-                    if (newDistance < dist[u][v]) {
-                        dist[u][v] = newDistance;
-                        pred[u][v] = pred[k][v];
+                        if (newDistance < dist[uRow + v]) {
+                            dist[uRow + v] = (int) newDistance;
+                        }
                     }
                 }
             }
@@ -0,0 +1,26 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import com.github.paulosalonso.algorithms.graph.Graph;
+import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
+
+@FunctionalInterface
+public interface Heuristic {
+
+    int estimate(Vertex vertex, Vertex target);
+
+    static Heuristic none() {
+        return (vertex, target) -> 0;
+    }
+
+    static Heuristic euclidean(Graph graph) {
+        return euclidean(graph, 1.0);
+    }
+
+    static Heuristic euclidean(Graph graph, double minimumWeightPerUnit) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph must be not null");
+        }
+
+        return (vertex, target) -> (int) Math.floor(graph.euclideanDistance(vertex, target) * minimumWeightPerUnit);
+    }
+}
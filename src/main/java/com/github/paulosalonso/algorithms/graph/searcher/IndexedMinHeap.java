@@ -0,0 +1,147 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+class IndexedMinHeap implements VertexQueue {
+
+    private final int[] heap;
+    private final int[] positions;
+    private final int[] priorities;
+    private int size;
+
+    private IndexedMinHeap(int capacity) {
+        this.heap = new int[capacity];
+        this.positions = new int[capacity];
+        this.priorities = new int[capacity];
+        Arrays.fill(positions, -1);
+    }
+
+    static IndexedMinHeap of(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be greater than or equal to zero");
+        }
+
+        return new IndexedMinHeap(capacity);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    boolean contains(int key) {
+        return positions[key] >= 0;
+    }
+
+    int getPriority(int key) {
+        return priorities[key];
+    }
+
+    @Override
+    public int peekPriority() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+
+        return priorities[heap[0]];
+    }
+
+    @Override
+    public void offer(int key, int priority) {
+        if (contains(key)) {
+            if (priority < priorities[key]) {
+                priorities[key] = priority;
+                siftUp(positions[key]);
+            }
+
+            return;
+        }
+
+        priorities[key] = priority;
+        heap[size] = key;
+        positions[key] = size;
+        siftUp(size++);
+    }
+
+    @Override
+    public int poll() {
+        if (size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+
+        final var key = heap[0];
+        positions[key] = -1;
+
+        if (--size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+
+        return key;
+    }
+
+    @Override
+    public void clear() {
+        for (var i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+
+        size = 0;
+    }
+
+    private void siftUp(int position) {
+        final var key = heap[position];
+        final var priority = priorities[key];
+
+        while (position > 0) {
+            final var parent = (position - 1) >>> 1;
+            final var parentKey = heap[parent];
+
+            if (priorities[parentKey] <= priority) {
+                break;
+            }
+
+            heap[position] = parentKey;
+            positions[parentKey] = position;
+            position = parent;
+        }
+
+        heap[position] = key;
+        positions[key] = position;
+    }
+
+    private void siftDown(int position) {
+        final var key = heap[position];
+        final var priority = priorities[key];
+        final var half = size >>> 1;
+
+        while (position < half) {
+            var child = 2 * position + 1;
+            var childKey = heap[child];
+            final var right = child + 1;
+
+            if (right < size && priorities[heap[right]] < priorities[childKey]) {
+                child = right;
+                childKey = heap[child];
+            }
+
+            if (priority <= priorities[childKey]) {
+                break;
+            }
+
+            heap[position] = childKey;
+            positions[childKey] = position;
+            position = child;
+        }
+
+        heap[position] = key;
+        positions[key] = position;
+    }
+}
@@ -0,0 +1,55 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import java.util.Arrays;
+
+class IntList {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int[] values;
+    private int size;
+
+    private IntList(int capacity) {
+        this.values = new int[capacity];
+    }
+
+    static IntList of() {
+        return new IntList(DEFAULT_CAPACITY);
+    }
+
+    static IntList of(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be greater than or equal to zero");
+        }
+
+        return new IntList(capacity);
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int get(int index) {
+        return values[index];
+    }
+
+    void add(int value) {
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(DEFAULT_CAPACITY, size * 2));
+        }
+
+        values[size++] = value;
+    }
+
+    int removeLast() {
+        return values[--size];
+    }
+
+    void clear() {
+        size = 0;
+    }
+}
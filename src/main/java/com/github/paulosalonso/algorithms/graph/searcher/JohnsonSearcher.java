@@ -0,0 +1,131 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import com.github.paulosalonso.algorithms.graph.CompactGraph;
+import com.github.paulosalonso.algorithms.graph.Graph;
+import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
+import com.github.paulosalonso.algorithms.graph.Path;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+public class JohnsonSearcher {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int TASKS_PER_THREAD = 4;
+
+    private final Graph graph;
+    private final ForkJoinPool pool;
+    private final int n;
+    private final int[] dist;
+    private final int[] pred;
+
+    private JohnsonSearcher(final Graph graph, final ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+        this.n = graph.getVertices().size();
+        this.dist = new int[n * n];
+        this.pred = new int[n * n];
+        calculateAllPairsShortestPath();
+    }
+
+    public static JohnsonSearcher of(final Graph graph) {
+        return of(graph, ForkJoinPool.commonPool());
+    }
+
+    public static JohnsonSearcher of(final Graph graph, final ForkJoinPool pool) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph must be not null");
+        }
+
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool must be not null");
+        }
+
+        if ((long) graph.getVertices().size() * graph.getVertices().size() > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Graph is too large for an all pairs table");
+        }
+
+        return new JohnsonSearcher(graph, pool);
+    }
+
+    public Optional<Integer> getDistance(final Vertex from, final Vertex to) {
+        return AllPairsTable.getDistance(graph, dist, from, to);
+    }
+
+    public Path getShortestPath(final Vertex from, final Vertex to) {
+        return AllPairsTable.getShortestPath(graph, dist, pred, from, to);
+    }
+
+    public void writeTo(final java.nio.file.Path file) throws IOException {
+        MappedShortestPathTable.write(file, graph.getVertices(), dist, pred);
+    }
+
+    private void calculateAllPairsShortestPath() {
+        final var potentials = BellmanFordSearcher.of(graph).computePotentials();
+        final var reweightedGraph = reweight(graph.toCompactGraph(), potentials);
+        final var tasks = Math.min(n, pool.getParallelism() * TASKS_PER_THREAD);
+
+        pool.submit(() -> IntStream.range(0, tasks).parallel()
+                .forEach(task -> searchSources(reweightedGraph, potentials, task, tasks)))
+                .join();
+    }
+
+    private void searchSources(final CompactGraph reweightedGraph, final int[] potentials, final int task, final int tasks) {
+        final var distances = new int[n];
+        final var predecessors = new int[n];
+        final var queue = DijkstraSearcher.queueFor(reweightedGraph);
+
+        for (var u = task; u < n; u += tasks) {
+            DijkstraSearcher.search(reweightedGraph, u, distances, predecessors, queue);
+
+            final var uRow = u * n;
+
+            for (var v = 0; v < n; v++) {
+                dist[uRow + v] = distances[v] == INFINITY
+                        ? INFINITY
+                        : (int) ((long) distances[v] - potentials[u] + potentials[v]);
+            }
+
+            System.arraycopy(predecessors, 0, pred, uRow, n);
+        }
+    }
+
+    private static CompactGraph reweight(final CompactGraph graph, final int[] potentials) {
+        final var weights = new int[graph.getEdgeCount()];
+
+        for (var u = 0; u < graph.getVertexCount(); u++) {
+            for (var edge = graph.getEdgeBegin(u); edge < graph.getEdgeEnd(u); edge++) {
+                weights[edge] = graph.getWeight(edge) + potentials[u] - potentials[graph.getTarget(edge)];
+            }
+        }
+
+        return graph.withWeights(weights);
+    }
+
+    public static void main(String[] args) {
+        var v0 = Vertex.of(0);
+        var v1 = Vertex.of(1);
+        var v2 = Vertex.of(2);
+        var v3 = Vertex.of(3);
+        var v4 = Vertex.of(4);
+
+        var vertices = List.of(v0, v1, v2, v3, v4);
+
+        var graph = Graph.of(vertices);
+
+        graph.joinDirected(v0, v1, 2)
+                .joinDirected(v1, v2, 3)
+                .joinDirected(v2, v3, 5)
+                .joinDirected(v3, v0, 8)
+                .joinDirected(v0, v4, 4)
+                .joinDirected(v2, v4, 1)
+                .joinDirected(v4, v3, 7);
+
+        final var johnsonSearcher = JohnsonSearcher.of(graph);
+
+        System.out.println(johnsonSearcher.getShortestPath(v1, v0));
+    }
+}
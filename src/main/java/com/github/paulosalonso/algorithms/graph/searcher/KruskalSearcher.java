@@ -0,0 +1,79 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import com.github.paulosalonso.algorithms.graph.Graph;
+import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static lombok.AccessLevel.PRIVATE;
+
+@RequiredArgsConstructor(access = PRIVATE)
+public class KruskalSearcher {
+
+    private final Graph graph;
+
+    public static KruskalSearcher of(Graph graph) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph must be not null");
+        }
+
+        return new KruskalSearcher(graph);
+    }
+
+    public Predecessors computeMinimumSpanningTree() {
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+        final var m = compactGraph.getEdgeCount();
+        final var sources = SpanningForest.sourcesOf(compactGraph);
+        final var sortedEdges = new long[m];
+
+        for (var edge = 0; edge < m; edge++) {
+            sortedEdges[edge] = (long) compactGraph.getWeight(edge) << 32 | edge;
+        }
+
+        Arrays.parallelSort(sortedEdges);
+
+        final var components = DisjointSet.of(n);
+        final var treeEdges = new int[Math.max(n - 1, 0)];
+        var treeEdgeCount = 0;
+
+        for (var i = 0; i < m && treeEdgeCount < treeEdges.length; i++) {
+            final var edge = (int) sortedEdges[i];
+
+            if (components.union(sources[edge], compactGraph.getTarget(edge))) {
+                treeEdges[treeEdgeCount++] = edge;
+            }
+        }
+
+        return SpanningForest.toPredecessors(graph, sources, treeEdges, treeEdgeCount);
+    }
+
+    public static void main(String[] args) {
+        var v0 = Vertex.of(0);
+        var v1 = Vertex.of(1);
+        var v2 = Vertex.of(2);
+        var v3 = Vertex.of(3);
+        var v4 = Vertex.of(4);
+
+        var vertices = List.of(v0, v1, v2, v3, v4);
+
+        var graph = Graph.of(vertices);
+
+        graph.joinUndirected(v0, v1, 2)
+                .joinUndirected(v1, v2, 3)
+                .joinUndirected(v2, v3, 5)
+                .joinUndirected(v3, v0, 8)
+                .joinUndirected(v0, v4, 4)
+                .joinUndirected(v2, v4, 1)
+                .joinUndirected(v4, v3, 7);
+
+        final var start = System.currentTimeMillis();
+        final var predecessors = KruskalSearcher.of(graph).computeMinimumSpanningTree();
+        final var duration = System.currentTimeMillis() - start;
+
+        System.out.println("KruskalSearcher duration: " + duration);
+        System.out.println(predecessors.toList());
+    }
+}
@@ -0,0 +1,238 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import com.github.paulosalonso.algorithms.graph.CompactGraph;
+import com.github.paulosalonso.algorithms.graph.Graph;
+import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public class LandmarkHeuristic implements Heuristic {
+
+    private static final int MAGIC = 0x414C5432;
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private final Graph graph;
+    private final int[] landmarks;
+    private final int[] fromLandmarks;
+    private final int[] toLandmarks;
+
+    private LandmarkHeuristic(Graph graph, int[] landmarks, int[] fromLandmarks, int[] toLandmarks) {
+        this.graph = graph;
+        this.landmarks = landmarks;
+        this.fromLandmarks = fromLandmarks;
+        this.toLandmarks = toLandmarks;
+    }
+
+    public static LandmarkHeuristic of(Graph graph, int count) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph must be not null");
+        }
+
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+        final var k = Math.min(Math.max(count, 0), n);
+
+        if ((long) k * n > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Too many landmarks for graph");
+        }
+
+        final var landmarks = new int[k];
+        final var fromLandmarks = new int[k * n];
+        final var toLandmarks = new int[k * n];
+        final var distances = new int[n];
+        final var predecessors = new int[n];
+        final var queue = DijkstraSearcher.queueFor(compactGraph);
+        final var nearestLandmark = new long[n];
+
+        Arrays.fill(nearestLandmark, Long.MAX_VALUE);
+
+        for (var i = 0; i < k; i++) {
+            final var landmark = i == 0 ? farthestFrom(compactGraph, 0, distances, predecessors, queue) : farthest(nearestLandmark);
+            landmarks[i] = landmark;
+
+            DijkstraSearcher.search(compactGraph, landmark, distances, predecessors, queue);
+            System.arraycopy(distances, 0, fromLandmarks, i * n, n);
+
+            for (var v = 0; v < n; v++) {
+                final var distance = distances[v] == INFINITY ? Long.MAX_VALUE - 1 : distances[v];
+                nearestLandmark[v] = Math.min(nearestLandmark[v], distance);
+            }
+
+            nearestLandmark[landmark] = -1;
+
+            DijkstraSearcher.search(compactGraph.reverse(), landmark, distances, predecessors, queue);
+            System.arraycopy(distances, 0, toLandmarks, i * n, n);
+        }
+
+        return new LandmarkHeuristic(graph, landmarks, fromLandmarks, toLandmarks);
+    }
+
+    public static LandmarkHeuristic readFrom(java.nio.file.Path file, Graph graph) throws IOException {
+        if (file == null || graph == null) {
+            throw new IllegalArgumentException("File and graph must be not null");
+        }
+
+        try (final var input = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (input.readInt() != MAGIC) {
+                throw new IOException("File is not a landmark table");
+            }
+
+            final var n = input.readInt();
+            final var k = input.readInt();
+            final var checksum = input.readLong();
+
+            if (n != graph.getVertices().size() || checksum != checksumOf(graph.toCompactGraph())) {
+                throw new IOException("Landmark table does not match graph");
+            }
+
+            if (k < 0 || k > n || (long) k * n > Integer.MAX_VALUE - 8) {
+                throw new IOException("Landmark table has an invalid landmark count");
+            }
+
+            final var landmarks = readInts(input, k);
+
+            for (final var landmark : landmarks) {
+                if (landmark < 0 || landmark >= n) {
+                    throw new IOException("Landmark table has an invalid landmark");
+                }
+            }
+
+            final var fromLandmarks = readInts(input, k * n);
+            final var toLandmarks = readInts(input, k * n);
+
+            return new LandmarkHeuristic(graph, landmarks, fromLandmarks, toLandmarks);
+        }
+    }
+
+    public void writeTo(java.nio.file.Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File must be not null");
+        }
+
+        final var directory = file.toAbsolutePath().getParent();
+        final var temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+        try {
+            writeTable(temporaryFile);
+            Files.move(temporaryFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private void writeTable(java.nio.file.Path file) throws IOException {
+        try (final var channel = FileChannel.open(file, WRITE);
+             final var output = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(channel)))) {
+            output.writeInt(MAGIC);
+            output.writeInt(graph.getVertices().size());
+            output.writeInt(landmarks.length);
+            output.writeLong(checksumOf(graph.toCompactGraph()));
+            writeInts(output, landmarks);
+            writeInts(output, fromLandmarks);
+            writeInts(output, toLandmarks);
+            output.flush();
+            channel.force(false);
+        }
+    }
+
+    public List<Vertex> getLandmarks() {
+        return Arrays.stream(landmarks).mapToObj(graph.getVertices()::get).toList();
+    }
+
+    @Override
+    public int estimate(Vertex vertex, Vertex target) {
+        final var n = graph.getVertices().size();
+        final var v = graph.indexOf(vertex);
+        final var t = graph.indexOf(target);
+        var bound = 0L;
+
+        for (var i = 0; i < landmarks.length; i++) {
+            final var row = i * n;
+            final var fromToTarget = fromLandmarks[row + t];
+            final var fromToVertex = fromLandmarks[row + v];
+            final var vertexToLandmark = toLandmarks[row + v];
+            final var targetToLandmark = toLandmarks[row + t];
+
+            if (fromToTarget != INFINITY && fromToVertex != INFINITY) {
+                bound = Math.max(bound, (long) fromToTarget - fromToVertex);
+            }
+
+            if (vertexToLandmark != INFINITY && targetToLandmark != INFINITY) {
+                bound = Math.max(bound, (long) vertexToLandmark - targetToLandmark);
+            }
+        }
+
+        return (int) bound;
+    }
+
+    private static long checksumOf(CompactGraph graph) {
+        var checksum = (long) graph.getVertexCount();
+
+        for (var u = 0; u < graph.getVertexCount(); u++) {
+            checksum = checksum * 31 + graph.getVertex(u).getValue();
+            checksum = checksum * 31 + graph.getEdgeEnd(u);
+
+            for (var edge = graph.getEdgeBegin(u); edge < graph.getEdgeEnd(u); edge++) {
+                checksum = checksum * 31 + graph.getTarget(edge);
+                checksum = checksum * 31 + graph.getWeight(edge);
+            }
+        }
+
+        return checksum;
+    }
+
+    private static int farthestFrom(CompactGraph graph, int source, int[] distances, int[] predecessors, VertexQueue queue) {
+        DijkstraSearcher.search(graph, source, distances, predecessors, queue);
+
+        var farthest = source;
+
+        for (var v = 0; v < distances.length; v++) {
+            if (distances[v] != INFINITY && distances[v] > distances[farthest]) {
+                farthest = v;
+            }
+        }
+
+        return farthest;
+    }
+
+    private static int farthest(long[] nearestLandmark) {
+        var farthest = 0;
+
+        for (var v = 1; v < nearestLandmark.length; v++) {
+            if (nearestLandmark[v] > nearestLandmark[farthest]) {
+                farthest = v;
+            }
+        }
+
+        return farthest;
+    }
+
+    private static int[] readInts(DataInputStream input, int length) throws IOException {
+        final var values = new int[length];
+
+        for (var i = 0; i < length; i++) {
+            values[i] = input.readInt();
+        }
+
+        return values;
+    }
+
+    private static void writeInts(DataOutputStream output, int[] values) throws IOException {
+        for (final var value : values) {
+            output.writeInt(value);
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
+import com.github.paulosalonso.algorithms.graph.Path;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public class MappedShortestPathTable {
+
+    private static final int MAGIC = 0x41505350;
+    private static final int VERSION = 1;
+    private static final int HEADER_INTS = 4;
+    private static final int INFINITY = Integer.MAX_VALUE;
+    private static final int MAX_SEGMENT_INTS = Integer.MAX_VALUE / Integer.BYTES;
+    private static final int WRITE_BUFFER_SIZE = 1 << 20;
+
+    private final List<Vertex> vertices;
+    private final Map<Vertex, Integer> indices;
+    private final int n;
+    private final int rowsPerSegment;
+    private final IntBuffer[] dist;
+    private final IntBuffer[] pred;
+
+    private MappedShortestPathTable(List<Vertex> vertices, int rowsPerSegment, IntBuffer[] dist, IntBuffer[] pred) {
+        this.vertices = vertices;
+        this.indices = new HashMap<>(vertices.size() * 4 / 3 + 1);
+        this.n = vertices.size();
+        this.rowsPerSegment = rowsPerSegment;
+        this.dist = dist;
+        this.pred = pred;
+
+        for (var i = 0; i < n; i++) {
+            indices.put(vertices.get(i), i);
+        }
+    }
+
+    public static MappedShortestPathTable open(java.nio.file.Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File must be not null");
+        }
+
+        try (final var channel = FileChannel.open(file, READ)) {
+            final var header = channel.map(READ_ONLY, 0, HEADER_INTS * Integer.BYTES).asIntBuffer();
+
+            if (header.get(0) != MAGIC || header.get(1) != VERSION) {
+                throw new IOException("File is not a shortest path table");
+            }
+
+            final var n = header.get(2);
+            final var withPredecessors = header.get(3) != 0;
+            final var values = channel.map(READ_ONLY, HEADER_INTS * Integer.BYTES, (long) n * Integer.BYTES).asIntBuffer();
+            final var vertices = new ArrayList<Vertex>(n);
+
+            for (var i = 0; i < n; i++) {
+                vertices.add(Vertex.of(values.get(i)));
+            }
+
+            final var rowsPerSegment = rowsPerSegment(n);
+            final var distPosition = (long) (HEADER_INTS + n) * Integer.BYTES;
+            final var dist = map(channel, distPosition, n, rowsPerSegment);
+            final var pred = withPredecessors
+                    ? map(channel, distPosition + (long) n * n * Integer.BYTES, n, rowsPerSegment)
+                    : null;
+
+            return new MappedShortestPathTable(Collections.unmodifiableList(vertices), rowsPerSegment, dist, pred);
+        }
+    }
+
+    static void write(java.nio.file.Path file, List<Vertex> vertices, int[] dist, int[] pred) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File must be not null");
+        }
+
+        final var directory = file.toAbsolutePath().getParent();
+        final var temporaryFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+
+        try {
+            writeTable(temporaryFile, vertices, dist, pred);
+            Files.move(temporaryFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    private static void writeTable(java.nio.file.Path file, List<Vertex> vertices, int[] dist, int[] pred) throws IOException {
+        try (final var channel = FileChannel.open(file, WRITE)) {
+            final var buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+            final var ints = buffer.asIntBuffer();
+
+            ints.put(MAGIC).put(VERSION).put(vertices.size()).put(pred == null ? 0 : 1);
+
+            for (final var vertex : vertices) {
+                if (!ints.hasRemaining()) {
+                    flush(channel, buffer, ints);
+                }
+
+                ints.put(vertex.getValue());
+            }
+
+            write(channel, buffer, ints, dist);
+
+            if (pred != null) {
+                write(channel, buffer, ints, pred);
+            }
+
+            flush(channel, buffer, ints);
+            channel.force(false);
+        }
+    }
+
+    public List<Vertex> getVertices() {
+        return vertices;
+    }
+
+    public Optional<Integer> getDistance(Vertex from, Vertex to) {
+        final var distance = get(dist, indexOf(from), indexOf(to));
+        return distance == INFINITY ? Optional.empty() : Optional.of(distance);
+    }
+
+    public Path getShortestPath(Vertex from, Vertex to) {
+        if (pred == null) {
+            throw new IllegalStateException("Predecessors were not stored");
+        }
+
+        final var fromIndex = indexOf(from);
+        final var toIndex = indexOf(to);
+        final var distance = get(dist, fromIndex, toIndex);
+
+        if (distance == INFINITY) {
+            throw new IllegalArgumentException("There is no path between vertices");
+        }
+
+        final var path = new ArrayList<Vertex>();
+        path.add(vertices.get(toIndex));
+
+        var predecessorIndex = toIndex;
+
+        while (predecessorIndex != fromIndex) {
+            predecessorIndex = get(pred, fromIndex, predecessorIndex);
+            path.add(vertices.get(predecessorIndex));
+        }
+
+        Collections.reverse(path);
+
+        return Path.of(path, distance);
+    }
+
+    private int indexOf(Vertex vertex) {
+        final var index = indices.get(vertex);
+
+        if (index == null) {
+            throw new IllegalArgumentException("Vertex must belongs to table");
+        }
+
+        return index;
+    }
+
+    private int get(IntBuffer[] segments, int u, int v) {
+        return segments[u / rowsPerSegment].get((u % rowsPerSegment) * n + v);
+    }
+
+    private static int rowsPerSegment(int n) {
+        return n == 0 ? 1 : Math.max(1, MAX_SEGMENT_INTS / n);
+    }
+
+    private static IntBuffer[] map(FileChannel channel, long position, int n, int rowsPerSegment) throws IOException {
+        final var segments = new IntBuffer[(n + rowsPerSegment - 1) / rowsPerSegment];
+
+        for (var i = 0; i < segments.length; i++) {
+            final var rows = Math.min(rowsPerSegment, n - i * rowsPerSegment);
+            final var segmentPosition = position + (long) i * rowsPerSegment * n * Integer.BYTES;
+            segments[i] = channel.map(READ_ONLY, segmentPosition, (long) rows * n * Integer.BYTES).asIntBuffer();
+        }
+
+        return segments;
+    }
+
+    private static void write(FileChannel channel, ByteBuffer buffer, IntBuffer ints, int[] values) throws IOException {
+        var offset = 0;
+
+        while (offset < values.length) {
+            if (!ints.hasRemaining()) {
+                flush(channel, buffer, ints);
+            }
+
+            final var length = Math.min(ints.remaining(), values.length - offset);
+            ints.put(values, offset, length);
+            offset += length;
+        }
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer, IntBuffer ints) throws IOException {
+        buffer.position(0).limit(ints.position() * Integer.BYTES);
+
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+
+        buffer.clear();
+        ints.clear();
+    }
+}
@@ -0,0 +1,19 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class NegativeCycleException extends IllegalStateException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient List<Vertex> cycle;
+
+    public NegativeCycleException(List<Vertex> cycle) {
+        super("Graph has a negative cycle: " + cycle.stream().map(Vertex::getValue).toList());
+        this.cycle = List.copyOf(cycle);
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.paulosalonso.algorithms.graph.searcher;
 
+import com.github.paulosalonso.algorithms.graph.Graph;
 import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
 import com.github.paulosalonso.algorithms.graph.Path;
 import lombok.EqualsAndHashCode;
@@ -7,7 +8,10 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 
-import java.util.*;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.RandomAccess;
 
 import static java.util.Comparator.comparing;
 import static lombok.AccessLevel.PRIVATE;
@@ -15,31 +19,43 @@ import static lombok.AccessLevel.PRIVATE;
 @RequiredArgsConstructor(access = PRIVATE)
 public class Predecessors {
 
-    private final Map<Vertex, Vertex> predecessors;
-    private final Map<Vertex, Integer> distances;
+    static final int ABSENT = -2;
 
-    public static Predecessors newInstance() {
-        return new Predecessors(new HashMap<>(), new HashMap<>());
+    private final Graph graph;
+    private final int[] predecessors;
+    private final int[] distances;
+    private int[] present;
+
+    public static Predecessors of(Graph graph, int[] predecessors, int[] distances) {
+        if (graph == null || predecessors == null || distances == null) {
+            throw new IllegalArgumentException("Graph, predecessors and distances must be not null");
+        }
+
+        if (predecessors.length != graph.getVertices().size() || distances.length != predecessors.length) {
+            throw new IllegalArgumentException("Predecessors and distances must have one entry per vertex");
+        }
+
+        return new Predecessors(graph, predecessors, distances);
+    }
+
+    public int size() {
+        return presentIndices().length;
     }
 
-    public static Predecessors of(Map<Vertex, Vertex> predecessors, Map<Vertex, Integer> distances) {
-        return new Predecessors(predecessors, distances);
+    public boolean contains(int index) {
+        return predecessors[index] != ABSENT;
     }
 
-    public void put(Vertex vertex, Vertex predecessor) {
-        predecessors.put(vertex, predecessor);
-        distances.put(vertex, -1);
+    public int getPredecessor(int index) {
+        return predecessors[index];
     }
 
-    public void put(Vertex vertex, Vertex predecessor, int distance) {
-        predecessors.put(vertex, predecessor);
-        distances.put(vertex, distance);
+    public int getDistance(int index) {
+        return distances[index];
     }
 
     public List<Predecessor> toList() {
-        return predecessors.entrySet().stream()
-                .map(entry -> Predecessor.of(entry.getKey(), entry.getValue(), distances.get(entry.getKey())))
-                .toList();
+        return new PredecessorList(presentIndices());
     }
 
     public PriorityQueue<Predecessor> toPriorityQueue() {
@@ -49,32 +65,134 @@ public class Predecessors {
     }
 
     public Vertex getPredecessorVertexOf(Vertex vertex) {
-        return predecessors.get(vertex);
+        final var index = graph.indexOf(vertex);
+        final var predecessor = index < 0 ? -1 : predecessors[index];
+        return predecessor < 0 ? null : graph.getVertices().get(predecessor);
     }
 
     public Predecessor getPredecessorOf(Vertex vertex) {
-        return Predecessor.of(vertex, predecessors.get(vertex), distances.get(vertex));
+        return predecessorAt(indexOf(vertex));
     }
 
-    public Path findPathTo(final Vertex vertex) {
-        final var vertices = buildPath(List.of(vertex));
-        return Path.of(vertices, distances.get(vertices.get(vertices.size() - 1)));
+    public Path findPathTo(Vertex vertex) {
+        final var index = indexOf(vertex);
+        final var path = new int[lengthOfPathTo(index)];
+
+        fillPath(index, path, path.length);
+
+        return Path.of(new PathView(graph.getVertices(), path), distances[index]);
+    }
+
+    public int copyPathTo(Vertex vertex, int[] buffer) {
+        if (buffer == null) {
+            throw new IllegalArgumentException("Buffer must be not null");
+        }
+
+        final var index = indexOf(vertex);
+        final var length = lengthOfPathTo(index);
+
+        if (length > buffer.length) {
+            throw new IllegalArgumentException("Buffer must have room for " + length + " vertices");
+        }
+
+        fillPath(index, buffer, length);
+
+        return length;
     }
 
-    private List<Vertex> buildPath(List<Vertex> vertices) {
-        if (!vertices.isEmpty()) {
-            final var firstVertex = vertices.get(0);
-            final var previousVertex = getPredecessorVertexOf(firstVertex);
+    private int lengthOfPathTo(int index) {
+        var length = 1;
 
-            if (previousVertex != null) {
-                final var newVertices = new ArrayList<Vertex>();
-                newVertices.add(previousVertex);
-                newVertices.addAll(vertices);
-                return buildPath(newVertices);
+        for (var vertex = predecessors[index]; vertex >= 0; vertex = predecessors[vertex]) {
+            if (++length > predecessors.length) {
+                throw new IllegalStateException("Predecessors have a cycle");
             }
         }
 
-        return vertices;
+        return length;
+    }
+
+    private void fillPath(int index, int[] buffer, int length) {
+        var position = length;
+
+        for (var vertex = index; vertex >= 0; vertex = predecessors[vertex]) {
+            buffer[--position] = vertex;
+        }
+    }
+
+    private int indexOf(Vertex vertex) {
+        final var index = graph.indexOf(vertex);
+
+        if (index < 0 || predecessors[index] == ABSENT) {
+            throw new IllegalArgumentException("Vertex must belongs to predecessors");
+        }
+
+        return index;
+    }
+
+    private Predecessor predecessorAt(int index) {
+        final var vertices = graph.getVertices();
+        final var predecessor = predecessors[index];
+
+        return Predecessor.of(vertices.get(index), predecessor < 0 ? null : vertices.get(predecessor), distances[index]);
+    }
+
+    private int[] presentIndices() {
+        if (present == null) {
+            var count = 0;
+
+            for (final var predecessor : predecessors) {
+                if (predecessor != ABSENT) {
+                    count++;
+                }
+            }
+
+            final var indices = new int[count];
+            var position = 0;
+
+            for (var i = 0; i < predecessors.length; i++) {
+                if (predecessors[i] != ABSENT) {
+                    indices[position++] = i;
+                }
+            }
+
+            present = indices;
+        }
+
+        return present;
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private class PredecessorList extends AbstractList<Predecessor> implements RandomAccess {
+
+        private final int[] indices;
+
+        @Override
+        public Predecessor get(int index) {
+            return predecessorAt(indices[index]);
+        }
+
+        @Override
+        public int size() {
+            return indices.length;
+        }
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    private static class PathView extends AbstractList<Vertex> implements RandomAccess {
+
+        private final List<Vertex> vertices;
+        private final int[] indices;
+
+        @Override
+        public Vertex get(int index) {
+            return vertices.get(indices[index]);
+        }
+
+        @Override
+        public int size() {
+            return indices.length;
+        }
     }
 
     @RequiredArgsConstructor(access = PRIVATE)
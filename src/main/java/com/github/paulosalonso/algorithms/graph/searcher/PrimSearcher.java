@@ -3,20 +3,15 @@ package com.github.paulosalonso.algorithms.graph.searcher;
 import com.github.paulosalonso.algorithms.graph.Graph;
 import com.github.paulosalonso.algorithms.graph.Graph.Vertex;
 
-import java.util.Comparator;
+import java.util.BitSet;
 import java.util.List;
-import java.util.PriorityQueue;
 
 public class PrimSearcher {
 
     private final Graph graph;
-    private final long[] key;
-    private final int[] predecessors;
 
     public PrimSearcher(Graph graph) {
         this.graph = graph;
-        this.key = new long[graph.getVertices().size()];
-        this.predecessors = new int[graph.getVertices().size()];
     }
 
     public static PrimSearcher of(Graph graph) {
@@ -28,58 +23,36 @@ public class PrimSearcher {
     }
 
     public Predecessors computeMinimumSpanningTree() {
-        for (var i = 0; i < graph.getVertices().size(); i++) {
-            key[i] = Integer.MAX_VALUE;
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+        final var key = new int[n];
+        final var predecessors = new int[n];
+        final var priorityQueue = IndexedMinHeap.of(n);
+        final var inTree = new BitSet(n);
+
+        for (var i = 0; i < n; i++) {
+            key[i] = i == 0 ? 0 : Integer.MAX_VALUE;
             predecessors[i] = -1;
+            priorityQueue.offer(i, key[i]);
         }
 
-        key[0] = 0;
+        while (!priorityQueue.isEmpty()) {
+            final var u = priorityQueue.poll();
+            inTree.set(u);
 
-        final var comparator = Comparator.<Vertex, Long>comparing(vertex -> key[graph.indexOf(vertex)]);
-        var priotityQueue = new PriorityQueue<>(comparator);
-        priotityQueue.addAll(graph.getVertices());
+            for (var edge = compactGraph.getEdgeBegin(u); edge < compactGraph.getEdgeEnd(u); edge++) {
+                final var v = compactGraph.getTarget(edge);
+                final var distance = compactGraph.getWeight(edge);
 
-        while(!priotityQueue.isEmpty()) {
-            final var u = priotityQueue.poll();
-
-            final var neighborEdges = graph.getForwardEdges(u);
-
-            for (final var edge : neighborEdges) {
-                final var neighborVertex = edge.getTo();
-                final var neighborIndex = graph.indexOf(neighborVertex);
-
-                if (priotityQueue.contains(neighborVertex)) {
-                    final var distance = edge.getDistance();
-
-                    if (distance < key[neighborIndex]) {
-                        predecessors[neighborIndex] = graph.indexOf(u);
-                        key[neighborIndex] = distance;
-
-                        final var currentPriorityQueue = priotityQueue;
-                        priotityQueue = new PriorityQueue<>(comparator);
-
-                        for (Vertex vertex : currentPriorityQueue) {
-                            priotityQueue.offer(vertex);
-                        }
-                    }
+                if (!inTree.get(v) && distance < key[v]) {
+                    predecessors[v] = u;
+                    key[v] = distance;
+                    priorityQueue.offer(v, distance);
                 }
             }
         }
 
-        final var predecessors = Predecessors.newInstance();
-
-        for (var i = 0; i < this.predecessors.length; i++) {
-            final var vertex = graph.getVertices().get(i);
-            Vertex predecessor = null;
-
-            if (this.predecessors[i] >= 0) {
-                predecessor = graph.getVertices().get(this.predecessors[i]);
-            }
-
-            predecessors.put(vertex, predecessor, (int) key[i]);
-        }
-
-        return predecessors;
+        return Predecessors.of(graph, predecessors, key);
     }
 
     public static void main(String[] args) {
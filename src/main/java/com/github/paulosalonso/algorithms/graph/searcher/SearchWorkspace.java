@@ -0,0 +1,203 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import com.github.paulosalonso.algorithms.graph.CompactGraph;
+import com.github.paulosalonso.algorithms.graph.Graph;
+
+import java.util.Arrays;
+
+public class SearchWorkspace {
+
+    private static final int INFINITY = Integer.MAX_VALUE;
+
+    private int[] reachedStamps;
+    private int[] settledStamps;
+    private int[] distances;
+    private int[] predecessors;
+    private int[] reached;
+    private int[] cursors;
+    private int[] stack;
+    private long[] statuses;
+    private IndexedMinHeap heap;
+    private BucketQueue buckets;
+    private int bucketsMaxWeight;
+    private SearchWorkspace backward;
+    private int reachedCount;
+    private int stamp;
+
+    private SearchWorkspace(int capacity) {
+        allocate(capacity);
+    }
+
+    public static SearchWorkspace of(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be greater than or equal to zero");
+        }
+
+        return new SearchWorkspace(capacity);
+    }
+
+    public static SearchWorkspace of(Graph graph) {
+        if (graph == null) {
+            throw new IllegalArgumentException("Graph must be not null");
+        }
+
+        return new SearchWorkspace(graph.getVertices().size());
+    }
+
+    public int getCapacity() {
+        return distances.length;
+    }
+
+    void reset(int size) {
+        if (size > getCapacity()) {
+            allocate(Math.max(size, getCapacity() * 2));
+        } else if (++stamp == 0) {
+            Arrays.fill(reachedStamps, 0);
+            Arrays.fill(settledStamps, 0);
+            stamp = 1;
+        }
+
+        reachedCount = 0;
+    }
+
+    boolean isReached(int vertex) {
+        return reachedStamps[vertex] == stamp;
+    }
+
+    boolean isSettled(int vertex) {
+        return settledStamps[vertex] == stamp;
+    }
+
+    int getDistance(int vertex) {
+        return isReached(vertex) ? distances[vertex] : INFINITY;
+    }
+
+    int getPredecessor(int vertex) {
+        return isReached(vertex) ? predecessors[vertex] : -1;
+    }
+
+    int getReachedCount() {
+        return reachedCount;
+    }
+
+    int getReached(int index) {
+        return reached[index];
+    }
+
+    void reach(int vertex, int distance, int predecessor) {
+        if (!isReached(vertex)) {
+            reachedStamps[vertex] = stamp;
+            reached[reachedCount++] = vertex;
+        }
+
+        distances[vertex] = distance;
+        predecessors[vertex] = predecessor;
+    }
+
+    void settle(int vertex) {
+        settledStamps[vertex] = stamp;
+    }
+
+    int[] getCursors() {
+        if (cursors == null) {
+            cursors = new int[getCapacity()];
+        }
+
+        return cursors;
+    }
+
+    int[] getStack() {
+        if (stack == null) {
+            stack = new int[getCapacity()];
+        }
+
+        return stack;
+    }
+
+    long[] getStatuses(int size) {
+        if (statuses == null) {
+            statuses = new long[(getCapacity() + 31) >>> 5];
+        } else {
+            Arrays.fill(statuses, 0, (size + 31) >>> 5, 0L);
+        }
+
+        return statuses;
+    }
+
+    VertexQueue getQueue(CompactGraph graph) {
+        if (!DijkstraSearcher.fitsBuckets(graph)) {
+            return getHeap();
+        }
+
+        if (buckets == null || bucketsMaxWeight < graph.getMaxWeight()) {
+            buckets = BucketQueue.of(getCapacity(), graph.getMaxWeight());
+            bucketsMaxWeight = graph.getMaxWeight();
+        } else {
+            buckets.clear();
+        }
+
+        return buckets;
+    }
+
+    IndexedMinHeap getHeap() {
+        if (heap == null) {
+            heap = IndexedMinHeap.of(getCapacity());
+        } else {
+            heap.clear();
+        }
+
+        return heap;
+    }
+
+    SearchWorkspace getBackward() {
+        if (backward == null) {
+            backward = new SearchWorkspace(getCapacity());
+        }
+
+        return backward;
+    }
+
+    Predecessors toPredecessors(Graph graph) {
+        final var n = graph.getVertices().size();
+        final var resultPredecessors = new int[n];
+        final var resultDistances = new int[n];
+
+        for (var v = 0; v < n; v++) {
+            resultPredecessors[v] = getPredecessor(v);
+            resultDistances[v] = getDistance(v);
+        }
+
+        return Predecessors.of(graph, resultPredecessors, resultDistances);
+    }
+
+    Predecessors toReachedPredecessors(Graph graph) {
+        final var n = graph.getVertices().size();
+        final var resultPredecessors = new int[n];
+        final var resultDistances = new int[n];
+
+        Arrays.fill(resultPredecessors, Predecessors.ABSENT);
+        Arrays.fill(resultDistances, INFINITY);
+
+        for (var i = 0; i < reachedCount; i++) {
+            final var v = reached[i];
+            resultPredecessors[v] = predecessors[v];
+            resultDistances[v] = distances[v];
+        }
+
+        return Predecessors.of(graph, resultPredecessors, resultDistances);
+    }
+
+    private void allocate(int capacity) {
+        this.reachedStamps = new int[capacity];
+        this.settledStamps = new int[capacity];
+        this.distances = new int[capacity];
+        this.predecessors = new int[capacity];
+        this.reached = new int[capacity];
+        this.cursors = null;
+        this.stack = null;
+        this.statuses = null;
+        this.heap = null;
+        this.buckets = null;
+        this.stamp = 1;
+    }
+}
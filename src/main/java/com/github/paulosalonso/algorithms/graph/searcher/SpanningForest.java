@@ -0,0 +1,88 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+import com.github.paulosalonso.algorithms.graph.CompactGraph;
+import com.github.paulosalonso.algorithms.graph.Graph;
+
+import java.util.Arrays;
+
+final class SpanningForest {
+
+    private SpanningForest() {}
+
+    static int[] sourcesOf(CompactGraph graph) {
+        final var sources = new int[graph.getEdgeCount()];
+
+        for (var u = 0; u < graph.getVertexCount(); u++) {
+            Arrays.fill(sources, graph.getEdgeBegin(u), graph.getEdgeEnd(u), u);
+        }
+
+        return sources;
+    }
+
+    static Predecessors toPredecessors(Graph graph, int[] sources, int[] treeEdges, int treeEdgeCount) {
+        final var compactGraph = graph.toCompactGraph();
+        final var n = compactGraph.getVertexCount();
+        final var offsets = new int[n + 1];
+
+        for (var i = 0; i < treeEdgeCount; i++) {
+            final var edge = treeEdges[i];
+            offsets[sources[edge] + 1]++;
+            offsets[compactGraph.getTarget(edge) + 1]++;
+        }
+
+        for (var u = 0; u < n; u++) {
+            offsets[u + 1] += offsets[u];
+        }
+
+        final var cursors = Arrays.copyOf(offsets, n);
+        final var neighbors = new int[2 * treeEdgeCount];
+        final var weights = new int[2 * treeEdgeCount];
+
+        for (var i = 0; i < treeEdgeCount; i++) {
+            final var edge = treeEdges[i];
+            final var u = sources[edge];
+            final var v = compactGraph.getTarget(edge);
+
+            neighbors[cursors[u]] = v;
+            weights[cursors[u]++] = compactGraph.getWeight(edge);
+            neighbors[cursors[v]] = u;
+            weights[cursors[v]++] = compactGraph.getWeight(edge);
+        }
+
+        final var predecessors = new int[n];
+        final var keys = new int[n];
+        final var visited = new boolean[n];
+        final var queue = new int[n];
+
+        for (var root = 0; root < n; root++) {
+            if (visited[root]) {
+                continue;
+            }
+
+            predecessors[root] = -1;
+            keys[root] = root == 0 ? 0 : Integer.MAX_VALUE;
+            visited[root] = true;
+
+            var head = 0;
+            var tail = 0;
+            queue[tail++] = root;
+
+            while (head < tail) {
+                final var u = queue[head++];
+
+                for (var i = offsets[u]; i < offsets[u + 1]; i++) {
+                    final var v = neighbors[i];
+
+                    if (!visited[v]) {
+                        visited[v] = true;
+                        predecessors[v] = u;
+                        keys[v] = weights[i];
+                        queue[tail++] = v;
+                    }
+                }
+            }
+        }
+
+        return Predecessors.of(graph, predecessors, keys);
+    }
+}
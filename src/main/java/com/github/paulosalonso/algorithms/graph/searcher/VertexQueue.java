@@ -0,0 +1,16 @@
+package com.github.paulosalonso.algorithms.graph.searcher;
+
+interface VertexQueue {
+
+    boolean isEmpty();
+
+    int size();
+
+    int peekPriority();
+
+    void offer(int key, int priority);
+
+    int poll();
+
+    void clear();
+}